@@ -0,0 +1,55 @@
+#!/bin/bash
+
+# Builds the fast-startup variant of the backend:
+#   1. Spring AOT-processed boot jar (./gradlew -Paot bootJar)
+#   2. Exploded layout under build/fast-start/app
+#   3. AppCDS archive from a training run that exits right after context refresh
+#
+# The training run starts the application context, so the database configured in
+# application.properties must be reachable.
+#
+# Usage: ./fast-start.sh [build|run|classpath]
+#   build     - build the jar, layout and CDS archive (default)
+#   run       - start the server using the AOT code and CDS archive
+#   classpath - print the exploded classpath
+
+set -e
+
+APP_DIR="build/fast-start/app"
+CDS_ARCHIVE="build/fast-start/app.jsa"
+MAIN_CLASS="com.empmanage.EmpManageApplication"
+
+classpath() {
+    local cp="$APP_DIR/BOOT-INF/classes"
+    while read -r entry; do
+        entry="${entry#- \"}"
+        entry="${entry%\"}"
+        cp="$cp:$APP_DIR/$entry"
+    done < "$APP_DIR/BOOT-INF/classpath.idx"
+    echo "$cp"
+}
+
+case "${1:-build}" in
+    build)
+        ./gradlew -Paot clean bootJar fastStartLayout
+        echo "Training run for AppCDS archive..."
+        java -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" \
+             -Dspring.aot.enabled=true \
+             -Dspring.context.exit=onRefresh \
+             -cp "$(classpath)" "$MAIN_CLASS"
+        echo "✅ CDS archive written to $CDS_ARCHIVE"
+        ;;
+    run)
+        shift
+        exec java -XX:SharedArchiveFile="$CDS_ARCHIVE" \
+             -Dspring.aot.enabled=true \
+             -cp "$(classpath)" "$MAIN_CLASS" "$@"
+        ;;
+    classpath)
+        classpath
+        ;;
+    *)
+        echo "Usage: $0 [build|run|classpath]"
+        exit 1
+        ;;
+esac
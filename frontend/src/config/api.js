@@ -39,5 +39,6 @@ export const API_ENDPOINTS = {
   
   // Dashboard
   DASHBOARD: '/dashboard',
+  EVENTS: '/events',
 };
 
@@ -16,6 +16,10 @@ const Dashboard = () => {
 
   useEffect(() => {
     fetchDashboardData();
+    return dashboardService.subscribe((data) => {
+      setDashboardData(data);
+      setLoading(false);
+    });
   }, []);
 
   const fetchDashboardData = async () => {
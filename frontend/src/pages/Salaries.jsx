@@ -373,7 +373,7 @@ const Salaries = () => {
                 </div>
                 
                 <div className="flex justify-between items-center p-3 bg-red-50 rounded-lg">
-                  <span className="font-medium">Food Expense (-) [₹{salaryPreview.foodPricePerDay}/day]</span>
+                  <span className="font-medium">Food Expense (-)</span>
                   <span className="font-bold text-red-600">
                     -₹{salaryPreview.foodExpense.toLocaleString()}
                   </span>
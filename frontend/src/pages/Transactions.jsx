@@ -94,7 +94,7 @@ const Transactions = () => {
       case 'attendances':
         return 'month' in transaction && 'daysWorked' in transaction;
       case 'food':
-        return 'month' in transaction && 'pricePerDay' in transaction;
+        return 'expenseDate' in transaction && 'pricePerMeal' in transaction;
       case 'overtimes':
         return 'overtimeDate' in transaction && 'hours' in transaction;
       default:
@@ -139,10 +139,11 @@ const Transactions = () => {
           newErrors.daysWorked = 'Days worked must be between 0 and 31';
         break;
       case 'food':
-        if (!formData.month) newErrors.month = 'Month is required';
-        if (!formData.year) newErrors.year = 'Year is required';
-        if (!formData.pricePerDay) newErrors.pricePerDay = 'Price per day is required';
-        else if (formData.pricePerDay <= 0) newErrors.pricePerDay = 'Price must be positive';
+        if (!formData.expenseDate) newErrors.expenseDate = 'Date is required';
+        if (!formData.meals) newErrors.meals = 'Meals is required';
+        else if (formData.meals < 1) newErrors.meals = 'Meals must be at least 1';
+        if (!formData.pricePerMeal) newErrors.pricePerMeal = 'Price per meal is required';
+        else if (formData.pricePerMeal <= 0) newErrors.pricePerMeal = 'Price must be positive';
         break;
       case 'overtimes':
         if (!formData.hours) newErrors.hours = 'Hours is required';
@@ -185,9 +186,8 @@ const Transactions = () => {
           toast.success('Attendance recorded successfully');
           break;
         case 'food':
-          data.month = parseInt(data.month);
-          data.year = parseInt(data.year);
-          data.pricePerDay = parseFloat(data.pricePerDay);
+          data.meals = parseInt(data.meals);
+          data.pricePerMeal = parseFloat(data.pricePerMeal);
           await foodService.createOrUpdateFoodExpense(data);
           toast.success('Food expense recorded successfully');
           break;
@@ -256,7 +256,7 @@ const Transactions = () => {
         initialData = { month: currentMonth, year: currentYear, daysWorked: '' };
         break;
       case 'food':
-        initialData = { month: currentMonth, year: currentYear, pricePerDay: '' };
+        initialData = { expenseDate: today.toISOString().split('T')[0], meals: 1, pricePerMeal: '' };
         break;
       case 'overtimes':
         initialData = { overtimeDate: today.toISOString().split('T')[0] };
@@ -345,17 +345,24 @@ const Transactions = () => {
       case 'food':
         return [
           { header: 'ID', accessor: 'id' },
-          { 
-            header: 'Month', 
+          {
+            header: 'Date',
             render: (row) => {
-              const monthNames = ['Jan', 'Feb', 'Mar', 'Apr', 'May', 'Jun', 'Jul', 'Aug', 'Sep', 'Oct', 'Nov', 'Dec'];
-              return row.month ? monthNames[row.month - 1] : 'N/A';
-            }
+              try {
+                return row.expenseDate ? format(new Date(row.expenseDate), 'dd MMM yyyy') : 'N/A';
+              } catch (error) {
+                return 'Invalid Date';
+              }
+            },
+          },
+          { header: 'Meals', accessor: 'meals' },
+          {
+            header: 'Price per Meal',
+            render: (row) => row.pricePerMeal ? `₹${row.pricePerMeal.toLocaleString()}` : '₹0',
           },
-          { header: 'Year', accessor: 'year' },
           {
-            header: 'Price per Day',
-            render: (row) => row.pricePerDay ? `₹${row.pricePerDay.toLocaleString()}` : '₹0',
+            header: 'Amount',
+            render: (row) => row.amount ? `₹${row.amount.toLocaleString()}` : '₹0',
           },
           {
             header: 'Actions',
@@ -495,46 +502,33 @@ const Transactions = () => {
       case 'food':
         return (
           <>
-            <Select
-              label="Month"
-              name="month"
-              value={formData.month || ''}
+            <Input
+              label="Date"
+              name="expenseDate"
+              type="date"
+              value={formData.expenseDate || ''}
               onChange={handleInputChange}
-              error={errors.month}
-              options={[
-                { value: 1, label: 'January' },
-                { value: 2, label: 'February' },
-                { value: 3, label: 'March' },
-                { value: 4, label: 'April' },
-                { value: 5, label: 'May' },
-                { value: 6, label: 'June' },
-                { value: 7, label: 'July' },
-                { value: 8, label: 'August' },
-                { value: 9, label: 'September' },
-                { value: 10, label: 'October' },
-                { value: 11, label: 'November' },
-                { value: 12, label: 'December' },
-              ]}
+              error={errors.expenseDate}
               required
             />
             <Input
-              label="Year"
-              name="year"
+              label="Meals"
+              name="meals"
               type="number"
-              value={formData.year || ''}
+              value={formData.meals || ''}
               onChange={handleInputChange}
-              error={errors.year}
-              placeholder="Enter year"
+              error={errors.meals}
+              placeholder="Enter number of meals"
               required
             />
             <Input
-              label="Price per Day (₹)"
-              name="pricePerDay"
+              label="Price per Meal (₹)"
+              name="pricePerMeal"
               type="number"
-              value={formData.pricePerDay || ''}
+              value={formData.pricePerMeal || ''}
               onChange={handleInputChange}
-              error={errors.pricePerDay}
-              placeholder="Enter daily food price"
+              error={errors.pricePerMeal}
+              placeholder="Enter meal price"
               step="0.01"
               required
             />
@@ -1,10 +1,17 @@
 import apiClient from './api.service';
-import { API_ENDPOINTS } from '../config/api';
+import { API_BASE_URL, API_ENDPOINTS } from '../config/api';
 
 const dashboardService = {
   getDashboardData: async () => {
     return await apiClient.get(API_ENDPOINTS.DASHBOARD);
   },
+
+  // Live dashboard updates; returns a function that closes the stream
+  subscribe: (onDashboard) => {
+    const source = new EventSource(`${API_BASE_URL}${API_ENDPOINTS.EVENTS}`);
+    source.addEventListener('dashboard', (event) => onDashboard(JSON.parse(event.data)));
+    return () => source.close();
+  },
 };
 
 export default dashboardService;
@@ -0,0 +1,87 @@
+package com.empmanage.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-operation HDR latency histograms (1 microsecond to 1 minute, 3 significant digits)
+ * plus status counts. Writes a summary table and one {@code .hgrm} percentile
+ * distribution per operation, which can be plotted with HdrHistogram's plotter.
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = 60_000_000_000L;
+
+    private final Map<LoadDriver.Operation, Recorder> recorders = new EnumMap<>(LoadDriver.Operation.class);
+    private final Map<LoadDriver.Operation, AtomicLong> errors = new EnumMap<>(LoadDriver.Operation.class);
+    private final Map<LoadDriver.Operation, Histogram> snapshots = new EnumMap<>(LoadDriver.Operation.class);
+    private long elapsedNanos;
+
+    LatencyReport() {
+        for (LoadDriver.Operation operation : LoadDriver.Operation.values()) {
+            recorders.put(operation, new Recorder(1_000, HIGHEST_TRACKABLE_NANOS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    void record(LoadDriver.Operation operation, long latencyNanos, int status) {
+        recorders.get(operation).recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (status < 200 || status >= 300) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private Histogram snapshot(LoadDriver.Operation operation) {
+        return snapshots.computeIfAbsent(operation, op -> recorders.get(op).getIntervalHistogram());
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-12s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long total = 0;
+        for (LoadDriver.Operation operation : LoadDriver.Operation.values()) {
+            Histogram h = snapshot(operation);
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            total += h.getTotalCount();
+            out.printf("%-12s %9d %7d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.name().toLowerCase(), h.getTotalCount(), errors.get(operation).get(),
+                    h.getMean() / 1e6, ms(h, 50), ms(h, 90), ms(h, 99), ms(h, 99.9), h.getMaxValue() / 1e6);
+        }
+        out.printf("elapsed %.1f s, throughput %.1f req/s%n", elapsedNanos / 1e9,
+                elapsedNanos > 0 ? total / (elapsedNanos / 1e9) : 0.0);
+    }
+
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (LoadDriver.Operation operation : LoadDriver.Operation.values()) {
+            Histogram h = snapshot(operation);
+            if (h.getTotalCount() == 0) {
+                continue;
+            }
+            Path file = directory.resolve(operation.name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // Output in milliseconds
+                h.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+        System.out.println("Histograms written to " + directory.toAbsolutePath());
+    }
+
+    private static double ms(Histogram h, double percentile) {
+        return h.getValueAtPercentile(percentile) / 1e6;
+    }
+}
@@ -0,0 +1,194 @@
+package com.empmanage.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load driver replaying a month-end workload against a running server.
+ * Requests are issued on a fixed schedule at {@code --rate} per second and latency is
+ * measured from each request's intended start time, so a stalled server shows up in the
+ * percentiles instead of silently lowering the offered load (coordinated omission).
+ *
+ * <pre>
+ * --base-url=http://localhost:8080 --rate=200 --duration=120 --warmup=15
+ * --month=2026-09 --mix=preview:40,dashboard:30,transaction:20,generate:10
+ * --max-in-flight=2000 --out=build/load-report --seed=42
+ * </pre>
+ */
+public class LoadDriver {
+
+    enum Operation {
+        PREVIEW, DASHBOARD, TRANSACTION, GENERATE
+    }
+
+    private final String baseUrl;
+    private final YearMonth month;
+    private final HttpClient client;
+    private final Random random;
+    private final List<Long> employeeIds;
+    private final AtomicInteger nextToGenerate = new AtomicInteger();
+    private final LatencyReport report = new LatencyReport();
+
+    LoadDriver(String baseUrl, YearMonth month, List<Long> employeeIds, long seed) {
+        this.baseUrl = baseUrl;
+        this.month = month;
+        this.employeeIds = employeeIds;
+        this.random = new Random(seed);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        String baseUrl = args.get("base-url", "http://localhost:8080");
+        YearMonth month = YearMonth.parse(args.get("month", YearMonth.now().minusMonths(1).toString()));
+        long seed = args.getLong("seed", 42);
+
+        List<Long> employeeIds = fetchEmployeeIds(baseUrl);
+        if (employeeIds.isEmpty()) {
+            throw new IllegalStateException("No active employees at " + baseUrl + "; run the seed generator first");
+        }
+        Collections.shuffle(employeeIds, new Random(seed));
+        System.out.printf("Loaded %d employees from %s%n", employeeIds.size(), baseUrl);
+
+        LoadDriver driver = new LoadDriver(baseUrl, month, employeeIds, seed);
+        driver.run(args.getInt("rate", 100), args.getInt("duration", 60), args.getInt("warmup", 10),
+                parseMix(args.get("mix", "preview:40,dashboard:30,transaction:20,generate:10")),
+                args.getInt("max-in-flight", 2_000));
+        driver.report.print(System.out);
+        driver.report.writeHistograms(Path.of(args.get("out", "build/load-report")));
+    }
+
+    void run(int rate, int durationSeconds, int warmupSeconds, Operation[] mix, int maxInFlight) throws InterruptedException {
+        long intervalNanos = 1_000_000_000L / rate;
+        long totalRequests = (long) rate * (warmupSeconds + durationSeconds);
+        long warmupRequests = (long) rate * warmupSeconds;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < totalRequests; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = mix[random.nextInt(mix.length)];
+            HttpRequest request = buildRequest(operation);
+            boolean measured = i >= warmupRequests;
+            inFlight.acquire();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (measured) {
+                            report.record(operation, System.nanoTime() - intendedStart,
+                                    error == null ? response.statusCode() : -1);
+                        }
+                    });
+        }
+
+        if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+            System.err.println("Some requests did not complete within 60s of the end of the run");
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        long employeeId = employeeIds.get(random.nextInt(employeeIds.size()));
+        switch (operation) {
+            case DASHBOARD:
+                return get("/api/dashboard");
+            case GENERATE: {
+                int index = nextToGenerate.getAndIncrement();
+                if (index < employeeIds.size()) {
+                    return post("/api/salaries/generate", salaryBody(employeeIds.get(index)));
+                }
+                // Every employee generated; keep the offered load with previews
+                return post("/api/salaries/preview", salaryBody(employeeId));
+            }
+            case TRANSACTION:
+                return transaction(employeeId);
+            case PREVIEW:
+            default:
+                return post("/api/salaries/preview", salaryBody(employeeId));
+        }
+    }
+
+    private HttpRequest transaction(long employeeId) {
+        String date = month.atDay(1 + random.nextInt(month.lengthOfMonth())).toString();
+        switch (random.nextInt(3)) {
+            case 0:
+                return post("/api/overtimes", String.format(
+                        "{\"employeeId\":%d,\"overtimeDate\":\"%s\",\"hours\":%d,\"ratePerHour\":150}",
+                        employeeId, date, 1 + random.nextInt(4)));
+            case 1:
+                return post("/api/advances", String.format(
+                        "{\"employeeId\":%d,\"advanceDate\":\"%s\",\"amount\":%d,\"description\":\"Load test\"}",
+                        employeeId, date, 500 + random.nextInt(20) * 100));
+            default:
+                return post("/api/leaves", String.format(
+                        "{\"employeeId\":%d,\"leaveDate\":\"%s\",\"leaveType\":\"%s\"}",
+                        employeeId, date, random.nextBoolean() ? "PAID" : "UNPAID"));
+        }
+    }
+
+    private String salaryBody(long employeeId) {
+        return String.format("{\"employeeId\":%d,\"month\":%d,\"year\":%d}",
+                employeeId, month.getMonthValue(), month.getYear());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static List<Long> fetchEmployeeIds(String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/employees")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode data = new ObjectMapper().readTree(response.body()).path("data");
+        List<Long> ids = new ArrayList<>();
+        data.forEach(employee -> ids.add(employee.path("id").asLong()));
+        return ids;
+    }
+
+    /** Expands "preview:40,dashboard:30" into a 100-slot table for weighted random picks. */
+    static Operation[] parseMix(String mix) {
+        List<Operation> slots = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.split(":");
+            Operation operation = Operation.valueOf(kv[0].trim().toUpperCase(Locale.ROOT));
+            for (int i = 0; i < Integer.parseInt(kv[1].trim()); i++) {
+                slots.add(operation);
+            }
+        }
+        return slots.toArray(new Operation[0]);
+    }
+}
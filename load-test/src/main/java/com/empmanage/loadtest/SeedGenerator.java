@@ -0,0 +1,251 @@
+package com.empmanage.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Fills a database that already has the application schema (start the server once with
+ * {@code spring.jpa.hibernate.ddl-auto=update}) with N synthetic employees and realistic
+ * per-month overtime, advance and leave activity. Output is deterministic for a given
+ * {@code --seed}. Seeded employees have mobiles starting with 7 so {@code --reset} can
+ * remove exactly the rows it created.
+ *
+ * <pre>
+ * --jdbc-url=jdbc:mysql://localhost:3306/emp_manage_db?rewriteBatchedStatements=true
+ * --user=root --password=secret
+ * --employees=10000 --months=3 --end-month=2026-09 --seed=42 --reset
+ * </pre>
+ */
+public class SeedGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String MOBILE_PREFIX = "7";
+
+    private final Connection connection;
+    private final Random random;
+
+    SeedGenerator(Connection connection, long seed) {
+        this.connection = connection;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Args args = new Args(argv);
+        String url = args.get("jdbc-url", "jdbc:mysql://localhost:3306/emp_manage_db?rewriteBatchedStatements=true");
+        int employees = args.getInt("employees", 1_000);
+        int months = args.getInt("months", 3);
+        YearMonth endMonth = YearMonth.parse(args.get("end-month", YearMonth.now().minusMonths(1).toString()));
+
+        try (Connection connection = DriverManager.getConnection(url, args.get("user", "root"), args.get("password", ""))) {
+            connection.setAutoCommit(false);
+            SeedGenerator generator = new SeedGenerator(connection, args.getLong("seed", 42));
+            if (args.getBoolean("reset")) {
+                generator.reset();
+            }
+            long start = System.nanoTime();
+            int rows = generator.seed(employees, endMonth.minusMonths(months - 1L), endMonth);
+            System.out.printf("Seeded %d employees (%d rows) for %s..%s in %d ms%n",
+                    employees, rows, endMonth.minusMonths(months - 1L), endMonth, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    void reset() throws SQLException {
+        String seeded = "SELECT id FROM employees WHERE mobile LIKE '" + MOBILE_PREFIX + "%'";
+        try (Statement st = connection.createStatement()) {
+            st.executeUpdate("DELETE FROM salary_details WHERE salary_id IN (SELECT id FROM salaries WHERE employee_id IN (" + seeded + "))");
+            st.executeUpdate("DELETE FROM salaries WHERE employee_id IN (" + seeded + ")");
+            st.executeUpdate("DELETE FROM employee_month_ledger WHERE employee_id IN (" + seeded + ")");
+            st.executeUpdate("DELETE FROM overtimes WHERE employee_id IN (" + seeded + ")");
+            st.executeUpdate("DELETE FROM advances WHERE employee_id IN (" + seeded + ")");
+            st.executeUpdate("DELETE FROM leaves WHERE employee_id IN (" + seeded + ")");
+            st.executeUpdate("DELETE FROM employees WHERE mobile LIKE '" + MOBILE_PREFIX + "%'");
+        }
+        connection.commit();
+    }
+
+    int seed(int employees, YearMonth fromMonth, YearMonth toMonth) throws SQLException {
+        Map<Long, BigDecimal> baseSalaries = insertEmployees(employees);
+        int rows = employees;
+
+        try (PreparedStatement overtime = connection.prepareStatement(
+                "INSERT INTO overtimes (employee_id, overtime_date, hours, rate_per_hour, total_amount) VALUES (?, ?, ?, ?, ?)");
+             PreparedStatement advance = connection.prepareStatement(
+                     "INSERT INTO advances (employee_id, amount, advance_date, description) VALUES (?, ?, ?, ?)");
+             PreparedStatement leave = connection.prepareStatement(
+                     "INSERT INTO leaves (employee_id, leave_date, leave_type, description) VALUES (?, ?, ?, ?)");
+             PreparedStatement ledger = connection.prepareStatement(
+                     "INSERT INTO employee_month_ledger (employee_id, month, year, overtime_total, advance_total, unpaid_leave_days, food_total) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, 0)")) {
+
+            Batch batch = new Batch(overtime, advance, leave, ledger);
+            for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+                for (Map.Entry<Long, BigDecimal> employee : baseSalaries.entrySet()) {
+                    rows += seedMonth(batch, employee.getKey(), employee.getValue(), month);
+                    batch.flushIfFull();
+                }
+            }
+            batch.flush();
+        }
+        return rows;
+    }
+
+    private Map<Long, BigDecimal> insertEmployees(int employees) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO employees (name, mobile, base_salary, pf_amount, active, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < employees; i++) {
+                // Base salary: roughly normal around 25k, clamped to 12k..80k
+                BigDecimal base = BigDecimal.valueOf(Math.round(Math.min(80_000, Math.max(12_000,
+                        25_000 + random.nextGaussian() * 8_000)) / 100.0) * 100);
+                BigDecimal pf = base.multiply(new BigDecimal("0.12")).min(new BigDecimal("1800")).setScale(2, RoundingMode.HALF_UP);
+                ps.setString(1, "Load Worker " + i);
+                ps.setString(2, MOBILE_PREFIX + String.format("%09d", i));
+                ps.setBigDecimal(3, base);
+                ps.setBigDecimal(4, pf);
+                ps.setBoolean(5, random.nextDouble() < 0.97);
+                ps.setTimestamp(6, Timestamp.valueOf(now));
+                ps.setTimestamp(7, Timestamp.valueOf(now));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+
+        Map<Long, BigDecimal> baseSalaries = new LinkedHashMap<>();
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT id, base_salary FROM employees WHERE mobile LIKE '" + MOBILE_PREFIX + "%' ORDER BY id")) {
+            while (rs.next()) {
+                baseSalaries.put(rs.getLong(1), rs.getBigDecimal(2));
+            }
+        }
+        return baseSalaries;
+    }
+
+    private int seedMonth(Batch batch, long employeeId, BigDecimal baseSalary, YearMonth month) throws SQLException {
+        int days = month.lengthOfMonth();
+        List<Integer> freeDays = new ArrayList<>();
+        for (int d = 1; d <= days; d++) {
+            freeDays.add(d);
+        }
+        Collections.shuffle(freeDays, random);
+        int next = 0;
+        int rows = 0;
+
+        // Overtime: Poisson with mean 4 days a month, 1-4 hours in half-hour steps
+        BigDecimal overtimeTotal = BigDecimal.ZERO;
+        int overtimeDays = poisson(4);
+        BigDecimal rate = BigDecimal.valueOf(100 + random.nextInt(9) * 25L);
+        for (int i = 0; i < overtimeDays && next < freeDays.size(); i++, rows++) {
+            BigDecimal hours = BigDecimal.valueOf(2 + random.nextInt(7)).divide(BigDecimal.valueOf(2), 2, RoundingMode.UNNECESSARY);
+            BigDecimal amount = hours.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+            batch.overtime.setLong(1, employeeId);
+            batch.overtime.setDate(2, Date.valueOf(month.atDay(freeDays.get(next++))));
+            batch.overtime.setBigDecimal(3, hours);
+            batch.overtime.setBigDecimal(4, rate);
+            batch.overtime.setBigDecimal(5, amount);
+            batch.overtime.addBatch();
+            overtimeTotal = overtimeTotal.add(amount);
+        }
+
+        // Advances: 30% of workers take one a month, a few take two; log-normal amounts capped at half salary
+        BigDecimal advanceTotal = BigDecimal.ZERO;
+        int advances = random.nextDouble() < 0.3 ? (random.nextDouble() < 0.15 ? 2 : 1) : 0;
+        for (int i = 0; i < advances; i++, rows++) {
+            double raw = Math.exp(8.0 + random.nextGaussian() * 0.6);
+            BigDecimal amount = BigDecimal.valueOf(Math.round(raw / 100.0) * 100L)
+                    .max(BigDecimal.valueOf(500))
+                    .min(baseSalary.divide(BigDecimal.valueOf(2), 0, RoundingMode.DOWN))
+                    .setScale(2, RoundingMode.HALF_UP);
+            batch.advance.setLong(1, employeeId);
+            batch.advance.setBigDecimal(2, amount);
+            batch.advance.setDate(3, Date.valueOf(month.atDay(1 + random.nextInt(days))));
+            batch.advance.setString(4, "Synthetic advance");
+            batch.advance.addBatch();
+            advanceTotal = advanceTotal.add(amount);
+        }
+
+        // Leaves: geometric with mean 1.5 days, 60% paid
+        int unpaidDays = 0;
+        int leaveDays = 0;
+        while (random.nextDouble() < 0.6 && leaveDays < 6) {
+            leaveDays++;
+        }
+        for (int i = 0; i < leaveDays && next < freeDays.size(); i++, rows++) {
+            boolean unpaid = random.nextDouble() < 0.4;
+            batch.leave.setLong(1, employeeId);
+            batch.leave.setDate(2, Date.valueOf(month.atDay(freeDays.get(next++))));
+            batch.leave.setString(3, unpaid ? "UNPAID" : "PAID");
+            batch.leave.setString(4, null);
+            batch.leave.addBatch();
+            if (unpaid) {
+                unpaidDays++;
+            }
+        }
+
+        // Keep the running month ledger consistent with the rows above
+        batch.ledger.setLong(1, employeeId);
+        batch.ledger.setInt(2, month.getMonthValue());
+        batch.ledger.setInt(3, month.getYear());
+        batch.ledger.setBigDecimal(4, overtimeTotal);
+        batch.ledger.setBigDecimal(5, advanceTotal);
+        batch.ledger.setInt(6, unpaidDays);
+        batch.ledger.addBatch();
+
+        batch.pending += rows + 1;
+        return rows + 1;
+    }
+
+    private int poisson(double mean) {
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private final class Batch {
+        final PreparedStatement overtime;
+        final PreparedStatement advance;
+        final PreparedStatement leave;
+        final PreparedStatement ledger;
+        int pending;
+
+        Batch(PreparedStatement overtime, PreparedStatement advance, PreparedStatement leave, PreparedStatement ledger) {
+            this.overtime = overtime;
+            this.advance = advance;
+            this.leave = leave;
+            this.ledger = ledger;
+        }
+
+        void flushIfFull() throws SQLException {
+            if (pending >= BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            overtime.executeBatch();
+            advance.executeBatch();
+            leave.executeBatch();
+            ledger.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+    }
+}
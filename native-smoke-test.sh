@@ -0,0 +1,81 @@
+#!/bin/bash
+
+# Smoke test for the GraalVM native image.
+# Boots build/native/nativeCompile/emp-manage against an in-memory H2 database and
+# exercises the employee, transaction and salary endpoints, then reports startup
+# time and resident memory.
+#
+# Usage: ./native-smoke-test.sh [--skip-build]
+
+PORT="${PORT:-18080}"
+BASE="http://localhost:$PORT/api"
+BINARY="build/native/nativeCompile/emp-manage"
+MONTH=$(date +%-m)
+YEAR=$(date +%Y)
+FAILURES=0
+
+if [ "$1" != "--skip-build" ]; then
+    ./gradlew -Pnative nativeCompile || { echo "❌ Native build failed"; exit 1; }
+fi
+
+start_ms=$(( $(date +%s%N) / 1000000 ))
+"$BINARY" \
+    --server.port="$PORT" \
+    --spring.datasource.url="jdbc:h2:mem:smoke;MODE=MySQL;NON_KEYWORDS=MONTH,YEAR;DB_CLOSE_DELAY=-1" \
+    --spring.datasource.username=sa \
+    --spring.datasource.password= \
+    --spring.jpa.hibernate.ddl-auto=create-drop \
+    --twilio.account.sid= \
+    --twilio.auth.token= \
+    --twilio.phone.number= &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null' EXIT
+
+for i in $(seq 1 500); do
+    curl -sf -o /dev/null "$BASE/dashboard" && break
+    sleep 0.01
+done
+ready_ms=$(( $(date +%s%N) / 1000000 ))
+
+# check <description> <expected text> <curl args...>
+check() {
+    local description="$1" expected="$2"
+    shift 2
+    local body
+    body=$(curl -s -H "Content-Type: application/json" "$@")
+    if echo "$body" | grep -q "$expected"; then
+        echo "✅ $description"
+    else
+        echo "❌ $description: $body"
+        FAILURES=$((FAILURES + 1))
+    fi
+    LAST_BODY="$body"
+}
+
+check "Create employee" '"success":true' -X POST "$BASE/employees" \
+    -d '{"name":"Smoke Test","mobile":"9999900001","baseSalary":30000,"pfAmount":1800}'
+EMPLOYEE_ID=$(echo "$LAST_BODY" | sed -E 's/.*"data":\{"id":([0-9]+).*/\1/')
+
+check "List employees" 'Smoke Test' "$BASE/employees"
+check "Add overtime" '"success":true' -X POST "$BASE/overtimes" \
+    -d "{\"employeeId\":$EMPLOYEE_ID,\"overtimeDate\":\"$YEAR-$(printf %02d $MONTH)-05\",\"hours\":4,\"ratePerHour\":150}"
+check "Add advance" '"success":true' -X POST "$BASE/advances" \
+    -d "{\"employeeId\":$EMPLOYEE_ID,\"advanceDate\":\"$YEAR-$(printf %02d $MONTH)-10\",\"amount\":2000}"
+check "Add unpaid leave" '"success":true' -X POST "$BASE/leaves" \
+    -d "{\"employeeId\":$EMPLOYEE_ID,\"leaveDate\":\"$YEAR-$(printf %02d $MONTH)-15\",\"leaveType\":\"UNPAID\"}"
+check "Monthly overtimes" '"overtimeDate"' "$BASE/overtimes/employee/$EMPLOYEE_ID/month/$MONTH/year/$YEAR"
+check "Preview salary" '"finalSalary"' -X POST "$BASE/salaries/preview" \
+    -d "{\"employeeId\":$EMPLOYEE_ID,\"month\":$MONTH,\"year\":$YEAR}"
+check "Generate salary" '"finalSalary"' -X POST "$BASE/salaries/generate" \
+    -d "{\"employeeId\":$EMPLOYEE_ID,\"month\":$MONTH,\"year\":$YEAR}"
+check "Salary history" '"finalSalary"' "$BASE/salaries/employee/$EMPLOYEE_ID"
+check "Dashboard" '"activeEmployees":1' "$BASE/dashboard"
+
+RSS_KB=$(grep VmRSS /proc/$APP_PID/status 2>/dev/null | awk '{print $2}')
+echo "=================================="
+echo "Time to first response: $(( ready_ms - start_ms )) ms"
+echo "Resident memory:        $(( ${RSS_KB:-0} / 1024 )) MB"
+echo "Failures:               $FAILURES"
+echo "=================================="
+
+[ "$FAILURES" -eq 0 ]
@@ -0,0 +1,58 @@
+package com.empmanage.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes access-log lines from a background thread so request threads only pay for a
+ * queue offer. Lines are dropped (and counted) rather than blocking when the queue is full.
+ */
+@Component
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(10_000);
+    private final Thread writer;
+    private final LongAdder dropped = new LongAdder();
+
+    public AccessLogWriter() {
+        writer = new Thread(this::drain, "access-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void write(String line) {
+        if (!queue.offer(line)) {
+            dropped.increment();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.interrupt();
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                ACCESS_LOG.info(queue.take());
+            }
+        } catch (InterruptedException e) {
+            String line;
+            while ((line = queue.poll()) != null) {
+                ACCESS_LOG.info(line);
+            }
+        }
+    }
+}
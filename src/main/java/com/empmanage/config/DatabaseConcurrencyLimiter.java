@@ -0,0 +1,78 @@
+package com.empmanage.config;
+
+import com.empmanage.dto.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In virtual-thread mode there is no Tomcat thread pool to cap concurrency, so every
+ * request may reach the database at once. This filter lets at most as many API requests
+ * run as the Hikari pool has connections; the rest park cheaply on a fair semaphore and
+ * get a 503 if no permit frees up within the timeout.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DatabaseConcurrencyLimiter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final ObjectMapper objectMapper;
+
+    public DatabaseConcurrencyLimiter(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                      @Value("${virtual.request-permit-timeout-ms:30000}") long timeoutMs,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(poolSize, true);
+        this.timeoutMs = timeoutMs;
+        this.objectMapper = objectMapper;
+        Gauge.builder("http.requests.permits.waiting", permits, Semaphore::getQueueLength)
+                .description("API requests waiting for a database permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Server is busy, please retry"));
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.empmanage.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Metrics exposed on /actuator/prometheus. Repository latency comes from Spring Boot's
+ * {@code spring.data.repository.invocations} timer, HikariCP pool usage from the
+ * {@code hikaricp.connections.*} meters; both are auto-configured.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.empmanage.config;
+
+import com.twilio.exception.RestException;
+import com.twilio.rest.api.v2010.account.Message;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image build. Spring AOT covers beans, JPA entities
+ * and repositories; this adds what it cannot infer: Jackson binding for every DTO and entity
+ * (they are nested inside generic {@code ApiResponse<T>} bodies), the Twilio resources the
+ * SDK deserializes, and the JDK proxies datasource-proxy creates.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<String> BINDING_PACKAGES = List.of("com.empmanage.dto", "com.empmanage.entity");
+
+        private final BindingReflectionHintsRegistrar bindingHints = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            for (String basePackage : BINDING_PACKAGES) {
+                for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                    Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                    bindingHints.registerReflectionHints(hints.reflection(), type);
+                }
+            }
+
+            bindingHints.registerReflectionHints(hints.reflection(), Message.class, RestException.class);
+            hints.reflection().registerType(Message.class, MemberCategory.values());
+            hints.reflection().registerType(RestException.class, MemberCategory.values());
+
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, DataSource.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, Connection.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, Statement.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, PreparedStatement.class);
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, CallableStatement.class);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.empmanage.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Records the number of rows returned by every repository method as the
+ * {@code repository.rows} summary, tagged by repository and method name.
+ */
+@Component
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> {
+                        String repository = repositoryInformation.getRepositoryInterface().getSimpleName();
+                        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                            Object result = invocation.proceed();
+                            if (invocation.getMethod().getReturnType() != void.class) {
+                                DistributionSummary.builder("repository.rows")
+                                        .tag("repository", repository)
+                                        .tag("method", invocation.getMethod().getName())
+                                        .register(meterRegistry.getObject())
+                                        .record(rowCount(result));
+                            }
+                            return result;
+                        });
+                    }));
+        }
+        return bean;
+    }
+
+    private static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?> iterable) {
+            long count = 0;
+            for (Object ignored : iterable) {
+                count++;
+            }
+            return count;
+        }
+        return 1;
+    }
+}
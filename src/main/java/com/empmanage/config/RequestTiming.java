@@ -0,0 +1,104 @@
+package com.empmanage.config;
+
+/**
+ * Per-request time accounting for the Server-Timing header and access log. Bound to the
+ * request thread by {@link ServerTimingFilter}; the record methods are no-ops outside a
+ * request (scheduled jobs, startup), so callers never need to check.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private int sqlCount;
+    private long sqlNanos;
+    private long sqlStartNanos;
+    private long serializationNanos;
+    private long smsNanos;
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void sqlStarted() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.sqlStartNanos = System.nanoTime();
+        }
+    }
+
+    public static void sqlFinished() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.sqlCount++;
+            timing.sqlNanos += System.nanoTime() - timing.sqlStartNanos;
+        }
+    }
+
+    public static void recordSerialization(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.serializationNanos += nanos;
+        }
+    }
+
+    public static void recordSms(long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.smsNanos += nanos;
+        }
+    }
+
+    public int getSqlCount() {
+        return sqlCount;
+    }
+
+    public long getSqlNanos() {
+        return sqlNanos;
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    public long getSmsNanos() {
+        return smsNanos;
+    }
+
+    /** Time spent in application code: the total less SQL, SMS and serialization. */
+    public long computeNanos(long totalNanos) {
+        return Math.max(0, totalNanos - sqlNanos - smsNanos - serializationNanos);
+    }
+
+    String toServerTimingHeader(long totalNanos) {
+        StringBuilder sb = new StringBuilder(96);
+        sb.append("db;desc=\"").append(sqlCount).append(" queries\";dur=").append(millis(sqlNanos));
+        sb.append(", app;dur=").append(millis(computeNanos(totalNanos)));
+        if (serializationNanos > 0) {
+            sb.append(", ser;dur=").append(millis(serializationNanos));
+        }
+        if (smsNanos > 0) {
+            sb.append(", sms;dur=").append(millis(smsNanos));
+        }
+        sb.append(", total;dur=").append(millis(totalNanos));
+        return sb.toString();
+    }
+
+    static String millis(long nanos) {
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        return (micros / 1_000) + "." + (fraction < 100 ? (fraction < 10 ? "00" : "0") : "") + fraction;
+    }
+}
@@ -0,0 +1,40 @@
+package com.empmanage.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Column changes {@code ddl-auto=update} does not make: it adds tables and columns but
+ * never alters an existing column. Each upgrade checks the live schema first, so it is a
+ * no-op on new databases and once applied.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchemaUpgrades {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaUpgrades.class);
+
+    // Hibernate 6.2+ created @Enumerated(STRING) columns as a MySQL enum of the values
+    // known at the time, which rejects detail types added since
+    private static final String ENUM_DETAIL_TYPE_SQL = "SELECT COUNT(*) FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND LOWER(table_name) = 'salary_details' " +
+            "AND LOWER(column_name) = 'type' AND LOWER(data_type) = 'enum'";
+
+    private static final String WIDEN_DETAIL_TYPE_SQL = "ALTER TABLE salary_details MODIFY type VARCHAR(20) NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void widenSalaryDetailType() {
+        Integer enumColumns = jdbcTemplate.queryForObject(ENUM_DETAIL_TYPE_SQL, Integer.class);
+        if (enumColumns != null && enumColumns > 0) {
+            jdbcTemplate.execute(WIDEN_DETAIL_TYPE_SQL);
+            log.info("Changed salary_details.type from enum to VARCHAR(20)");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.empmanage.config;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Adds a {@code Server-Timing} header to API responses breaking the request time into
+ * SQL, application and SMS time, and emits one structured access-log line per request.
+ * The body is not buffered: the header is set just before the response body is first
+ * opened, so it covers the time up to the first byte; serialization time and the full
+ * total are in the access-log line, written once the response is complete.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final AccessLogWriter accessLogWriter;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // the event stream is long-lived, so a timing for it would be meaningless
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || uri.startsWith("/api/events");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        long start = System.nanoTime();
+        TimingResponseWrapper wrapped = new TimingResponseWrapper(response, timing, start);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            // responses without a body never opened it
+            wrapped.setTimingHeader();
+            long total = System.nanoTime() - start;
+            RequestTiming.end();
+            accessLogWriter.write(accessLogLine(request, response.getStatus(), timing, total));
+        }
+    }
+
+    private String accessLogLine(HttpServletRequest request, int status, RequestTiming timing, long totalNanos) {
+        return "{\"method\":\"" + escape(request.getMethod()) + '"'
+                + ",\"path\":\"" + escape(request.getRequestURI()) + '"'
+                + ",\"status\":" + status
+                + ",\"totalMs\":" + RequestTiming.millis(totalNanos)
+                + ",\"sqlCount\":" + timing.getSqlCount()
+                + ",\"sqlMs\":" + RequestTiming.millis(timing.getSqlNanos())
+                + ",\"appMs\":" + RequestTiming.millis(timing.computeNanos(totalNanos))
+                + ",\"serMs\":" + RequestTiming.millis(timing.getSerializationNanos())
+                + ",\"smsMs\":" + RequestTiming.millis(timing.getSmsNanos())
+                + '}';
+    }
+
+    /** The raw path may hold quotes, backslashes or control characters. */
+    private static String escape(String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+
+    /** Sets the timing header once, before anything can commit the response. */
+    private static final class TimingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private final long start;
+        private boolean headerSet;
+
+        private TimingResponseWrapper(HttpServletResponse response, RequestTiming timing, long start) {
+            super(response);
+            this.timing = timing;
+            this.start = start;
+        }
+
+        void setTimingHeader() {
+            if (!headerSet && !isCommitted()) {
+                headerSet = true;
+                setHeader("Server-Timing", timing.toServerTimingHeader(System.nanoTime() - start));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            setTimingHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            setTimingHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            setTimingHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            setTimingHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            setTimingHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            setTimingHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.empmanage.config;
 import com.empmanage.service.SmsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,12 +13,12 @@ public class TwilioConfig {
 
     private final SmsService smsService;
 
+    // SmsService initializes Twilio lazily on the first SMS; eager init only delays startup
     @Bean
+    @ConditionalOnProperty(name = "twilio.init-on-startup", havingValue = "true")
     public CommandLineRunner initializeTwilio() {
         return args -> {
             smsService.initializeTwilio();
         };
     }
 }
-
-
@@ -3,6 +3,7 @@ package com.empmanage.controller;
 import com.empmanage.dto.request.AdvanceRequest;
 import com.empmanage.dto.response.ApiResponse;
 import com.empmanage.entity.Advance;
+import com.empmanage.entity.AdvanceInstallment;
 import com.empmanage.service.AdvanceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +43,18 @@ public class AdvanceController {
         return ResponseEntity.ok(ApiResponse.success(advances));
     }
 
+    @GetMapping("/employee/{employeeId}/outstanding")
+    public ResponseEntity<ApiResponse<List<Advance>>> getOutstandingAdvances(@PathVariable Long employeeId) {
+        List<Advance> advances = advanceService.getOutstandingAdvances(employeeId);
+        return ResponseEntity.ok(ApiResponse.success(advances));
+    }
+
+    @GetMapping("/{id}/installments")
+    public ResponseEntity<ApiResponse<List<AdvanceInstallment>>> getInstallments(@PathVariable Long id) {
+        List<AdvanceInstallment> installments = advanceService.getInstallments(id);
+        return ResponseEntity.ok(ApiResponse.success(installments));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteAdvance(@PathVariable Long id) {
         advanceService.deleteAdvance(id);
@@ -0,0 +1,73 @@
+package com.empmanage.controller;
+
+import com.empmanage.dto.response.AnalyticsDeltaResponse;
+import com.empmanage.dto.response.AnalyticsDistributionResponse;
+import com.empmanage.dto.response.AnalyticsMonthlyResponse;
+import com.empmanage.dto.response.AnalyticsRankingResponse;
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.service.PayrollAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Payroll analytics over a month ({@code year} and {@code month}) or a whole year
+ * ({@code year} only). Measures: BASE, OVERTIME, ADVANCES, LEAVES, ABSENCES, PF, FOOD, FINAL.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private final PayrollAnalyticsService analyticsService;
+
+    @GetMapping("/top")
+    public ResponseEntity<ApiResponse<AnalyticsRankingResponse>> top(
+            @RequestParam Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(defaultValue = "FINAL") String measure,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) BigDecimal min) {
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.top(year, month, measure, limit, min)));
+    }
+
+    @GetMapping("/ratio")
+    public ResponseEntity<ApiResponse<AnalyticsRankingResponse>> ratio(
+            @RequestParam Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(defaultValue = "ADVANCES") String numerator,
+            @RequestParam(defaultValue = "FINAL") String denominator,
+            @RequestParam(required = false) BigDecimal min,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                analyticsService.ratio(year, month, numerator, denominator, min, limit)));
+    }
+
+    @GetMapping("/distribution")
+    public ResponseEntity<ApiResponse<AnalyticsDistributionResponse>> distribution(
+            @RequestParam Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(defaultValue = "FINAL") String measure,
+            @RequestParam(defaultValue = "10") int buckets) {
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.distribution(year, month, measure, buckets)));
+    }
+
+    @GetMapping("/deltas")
+    public ResponseEntity<ApiResponse<AnalyticsDeltaResponse>> deltas(
+            @RequestParam Integer year,
+            @RequestParam Integer month,
+            @RequestParam(defaultValue = "FINAL") String measure,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.deltas(year, month, measure, limit)));
+    }
+
+    @GetMapping("/monthly")
+    public ResponseEntity<ApiResponse<AnalyticsMonthlyResponse>> monthly(
+            @RequestParam Integer year,
+            @RequestParam(defaultValue = "FINAL") String measure) {
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.monthly(year, measure)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.empmanage.controller;
+
+import com.empmanage.dto.request.AttendanceRequest;
+import com.empmanage.dto.request.BulkAttendanceRequest;
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.AttendanceResponse;
+import com.empmanage.service.AttendanceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attendances")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<AttendanceResponse>> createOrUpdateAttendance(
+            @Valid @RequestBody AttendanceRequest request) {
+        AttendanceResponse response = attendanceService.createOrUpdateAttendance(request);
+        return ResponseEntity.ok(ApiResponse.success("Attendance saved successfully", response));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<Integer>> markDay(@Valid @RequestBody BulkAttendanceRequest request) {
+        int marked = attendanceService.markDay(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Marked " + request.getStatus() + " on " + request.getDate() + " for " + marked + " employee(s)", marked));
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    public ResponseEntity<ApiResponse<List<AttendanceResponse>>> getAttendanceByEmployee(@PathVariable Long employeeId) {
+        return ResponseEntity.ok(ApiResponse.success(attendanceService.getAttendanceByEmployee(employeeId)));
+    }
+
+    @GetMapping("/employee/{employeeId}/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<AttendanceResponse>> getAttendanceByEmployeeAndMonth(
+            @PathVariable Long employeeId,
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        return ResponseEntity.ok(ApiResponse.success(
+                attendanceService.getAttendanceByEmployeeAndMonth(employeeId, month, year)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteAttendance(@PathVariable Long id) {
+        attendanceService.deleteAttendance(id);
+        return ResponseEntity.ok(ApiResponse.success("Attendance deleted successfully", null));
+    }
+}
@@ -1,15 +1,26 @@
 package com.empmanage.controller;
 
+import com.empmanage.dto.request.EmployeeBulkUpdateRequest;
 import com.empmanage.dto.request.EmployeeRequest;
 import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.EmployeeBulkUpdateResponse;
 import com.empmanage.dto.response.EmployeeResponse;
+import com.empmanage.dto.response.LeaveBalanceResponse;
+import com.empmanage.dto.response.MonthlyTransactionsResponse;
+import com.empmanage.entity.EmployeeBulkChange;
+import com.empmanage.entity.EmployeeBulkChangeItem;
+import com.empmanage.entity.EmployeeCompensation;
+import com.empmanage.service.CompensationService;
+import com.empmanage.service.EmployeeBulkUpdateService;
 import com.empmanage.service.EmployeeService;
+import com.empmanage.service.LeaveBalanceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +30,9 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeBulkUpdateService bulkUpdateService;
+    private final CompensationService compensationService;
+    private final LeaveBalanceService leaveBalanceService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<EmployeeResponse>> createEmployee(@Valid @RequestBody EmployeeRequest request) {
@@ -33,12 +47,51 @@ public class EmployeeController {
         return ResponseEntity.ok(ApiResponse.success(employees));
     }
 
+    @PostMapping("/bulk-update")
+    public ResponseEntity<ApiResponse<EmployeeBulkUpdateResponse>> bulkUpdate(
+            @Valid @RequestBody EmployeeBulkUpdateRequest request) {
+        EmployeeBulkUpdateResponse response = bulkUpdateService.apply(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                "Bulk update applied to " + response.getAffectedEmployees() + " employees", response));
+    }
+
+    @GetMapping("/bulk-updates")
+    public ResponseEntity<ApiResponse<List<EmployeeBulkChange>>> getBulkUpdates() {
+        return ResponseEntity.ok(ApiResponse.success(bulkUpdateService.getChanges()));
+    }
+
+    @GetMapping("/bulk-updates/{changeId}/items")
+    public ResponseEntity<ApiResponse<List<EmployeeBulkChangeItem>>> getBulkUpdateItems(@PathVariable Long changeId) {
+        return ResponseEntity.ok(ApiResponse.success(bulkUpdateService.getChangeItems(changeId)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<EmployeeResponse>> getEmployeeById(@PathVariable Long id) {
         EmployeeResponse employee = employeeService.getEmployeeById(id);
         return ResponseEntity.ok(ApiResponse.success(employee));
     }
 
+    @GetMapping("/{id}/ledger")
+    public ResponseEntity<ApiResponse<MonthlyTransactionsResponse>> getMonthlyTransactions(
+            @PathVariable Long id,
+            @RequestParam Integer month,
+            @RequestParam Integer year) {
+        return ResponseEntity.ok(ApiResponse.success(employeeService.getMonthlyTransactions(id, month, year)));
+    }
+
+    @GetMapping("/{id}/compensation")
+    public ResponseEntity<ApiResponse<List<EmployeeCompensation>>> getCompensationHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(compensationService.getHistory(id)));
+    }
+
+    @GetMapping("/{id}/leave-balance")
+    public ResponseEntity<ApiResponse<LeaveBalanceResponse>> getLeaveBalance(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer year) {
+        int balanceYear = year != null ? year : LocalDate.now().getYear();
+        return ResponseEntity.ok(ApiResponse.success(leaveBalanceService.getBalance(id, balanceYear)));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<EmployeeResponse>> updateEmployee(
             @PathVariable Long id,
@@ -0,0 +1,60 @@
+package com.empmanage.controller;
+
+import com.empmanage.dto.request.CanteenImportRequest;
+import com.empmanage.dto.request.FoodExpenseRequest;
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.CanteenImportResponse;
+import com.empmanage.entity.FoodExpense;
+import com.empmanage.service.FoodExpenseService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/food-expenses")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class FoodExpenseController {
+
+    private final FoodExpenseService foodExpenseService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<FoodExpense>> createFoodExpense(@Valid @RequestBody FoodExpenseRequest request) {
+        FoodExpense foodExpense = foodExpenseService.createFoodExpense(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Food expense created successfully", foodExpense));
+    }
+
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<CanteenImportResponse>> importCanteenDay(
+            @Valid @RequestBody CanteenImportRequest request) {
+        CanteenImportResponse response = foodExpenseService.importCanteenDay(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Canteen day imported successfully", response));
+    }
+
+    @GetMapping("/employee/{employeeId}")
+    public ResponseEntity<ApiResponse<List<FoodExpense>>> getFoodExpensesByEmployee(@PathVariable Long employeeId) {
+        List<FoodExpense> foodExpenses = foodExpenseService.getFoodExpensesByEmployeeId(employeeId);
+        return ResponseEntity.ok(ApiResponse.success(foodExpenses));
+    }
+
+    @GetMapping("/employee/{employeeId}/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<List<FoodExpense>>> getFoodExpensesByEmployeeAndMonth(
+            @PathVariable Long employeeId,
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        List<FoodExpense> foodExpenses = foodExpenseService.getFoodExpensesByEmployeeIdAndMonth(employeeId, month, year);
+        return ResponseEntity.ok(ApiResponse.success(foodExpenses));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteFoodExpense(@PathVariable Long id) {
+        foodExpenseService.deleteFoodExpense(id);
+        return ResponseEntity.ok(ApiResponse.success("Food expense deleted successfully", null));
+    }
+}
@@ -0,0 +1,48 @@
+package com.empmanage.controller;
+
+import com.empmanage.dto.request.HolidayRequest;
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.WorkCalendarResponse;
+import com.empmanage.entity.Holiday;
+import com.empmanage.service.WorkCalendarService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/holidays")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class HolidayController {
+
+    private final WorkCalendarService workCalendarService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<Holiday>> addHoliday(@Valid @RequestBody HolidayRequest request) {
+        Holiday holiday = workCalendarService.addHoliday(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Holiday added successfully", holiday));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<Holiday>>> getHolidays(@RequestParam Integer year) {
+        return ResponseEntity.ok(ApiResponse.success(workCalendarService.getHolidays(year)));
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<WorkCalendarResponse>> getCalendar(
+            @RequestParam Integer month,
+            @RequestParam Integer year) {
+        return ResponseEntity.ok(ApiResponse.success(workCalendarService.getCalendar(month, year)));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Object>> deleteHoliday(@PathVariable Long id) {
+        workCalendarService.deleteHoliday(id);
+        return ResponseEntity.ok(ApiResponse.success("Holiday deleted successfully", null));
+    }
+}
@@ -0,0 +1,29 @@
+package com.empmanage.controller;
+
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.LedgerReconciliationResponse;
+import com.empmanage.service.EmployeeMonthLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ledger")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class LedgerController {
+
+    private final EmployeeMonthLedgerService ledgerService;
+
+    @PostMapping("/reconcile/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<LedgerReconciliationResponse>> reconcile(
+            @PathVariable Integer month,
+            @PathVariable Integer year,
+            @RequestParam(defaultValue = "false") boolean repair) {
+        LedgerReconciliationResponse response = ledgerService.reconcile(month, year, repair);
+        String message = response.getMismatches().isEmpty()
+                ? "Ledger is consistent"
+                : response.getMismatches().size() + " ledger row(s) out of sync" + (repair ? " and repaired" : "");
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+}
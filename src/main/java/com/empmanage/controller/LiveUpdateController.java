@@ -0,0 +1,21 @@
+package com.empmanage.controller;
+
+import com.empmanage.service.LiveUpdateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return liveUpdateService.subscribe();
+    }
+}
@@ -0,0 +1,52 @@
+package com.empmanage.controller;
+
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.PayrollRunResponse;
+import com.empmanage.entity.PayrollRunFailure;
+import com.empmanage.service.PayrollJobRunner;
+import com.empmanage.service.PayrollJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/payroll-runs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PayrollRunController {
+
+    private final PayrollJobService payrollJobService;
+    private final PayrollJobRunner payrollJobRunner;
+
+    @PostMapping("/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<PayrollRunResponse>> startRun(
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        PayrollJobRunner.StartedRun started = payrollJobRunner.start(month, year);
+        payrollJobRunner.execute(started);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Payroll run started", payrollJobService.mapToResponse(started.run())));
+    }
+
+    @GetMapping("/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<PayrollRunResponse>> getRun(
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        return ResponseEntity.ok(ApiResponse.success(payrollJobService.getRun(month, year)));
+    }
+
+    @GetMapping("/month/{month}/year/{year}/failures")
+    public ResponseEntity<ApiResponse<List<PayrollRunFailure>>> getFailures(
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        return ResponseEntity.ok(ApiResponse.success(payrollJobService.getFailures(month, year)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<PayrollRunResponse>>> getAllRuns() {
+        return ResponseEntity.ok(ApiResponse.success(payrollJobService.getAllRuns()));
+    }
+}
@@ -1,17 +1,28 @@
 package com.empmanage.controller;
 
 import com.empmanage.dto.request.SalaryGenerationRequest;
+import com.empmanage.dto.request.SalarySimulationRequest;
 import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.PayslipFinalizeResponse;
+import com.empmanage.dto.response.PayslipResponse;
 import com.empmanage.dto.response.SalaryPreviewResponse;
+import com.empmanage.dto.response.SalaryRangePreviewResponse;
+import com.empmanage.dto.response.SalarySimulationResponse;
+import com.empmanage.dto.response.SmsDispatchResponse;
 import com.empmanage.entity.Salary;
+import com.empmanage.service.PayslipService;
 import com.empmanage.service.SalaryCalculationService;
+import com.empmanage.service.SalarySimulationService;
 import com.empmanage.service.SmsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @RestController
@@ -20,17 +31,41 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class SalaryController {
 
+    private static final Logger log = LoggerFactory.getLogger(SalaryController.class);
+
     private final SalaryCalculationService salaryCalculationService;
     private final SmsService smsService;
+    private final SalarySimulationService salarySimulationService;
+    private final PayslipService payslipService;
 
     @PostMapping("/preview")
     public ResponseEntity<ApiResponse<SalaryPreviewResponse>> previewSalary(
-            @Valid @RequestBody SalaryGenerationRequest request) {
+            @Valid @RequestBody SalaryGenerationRequest request,
+            @RequestParam(defaultValue = "true") boolean breakdown) {
         SalaryPreviewResponse preview = salaryCalculationService.previewSalary(
-                request.getEmployeeId(), request.getMonth(), request.getYear());
+                request.getEmployeeId(), request.getMonth(), request.getYear(), breakdown);
         return ResponseEntity.ok(ApiResponse.success(preview));
     }
 
+    /**
+     * Preview of every month in a range, e.g. {@code ?from=2025-04&to=2026-03} for a financial year.
+     */
+    @GetMapping("/preview/employee/{employeeId}")
+    public ResponseEntity<ApiResponse<SalaryRangePreviewResponse>> previewSalaryRange(
+            @PathVariable Long employeeId,
+            @RequestParam YearMonth from,
+            @RequestParam YearMonth to,
+            @RequestParam(defaultValue = "false") boolean breakdown) {
+        return ResponseEntity.ok(ApiResponse.success(
+                salaryCalculationService.previewSalaryRange(employeeId, from, to, breakdown)));
+    }
+
+    @PostMapping("/simulate")
+    public ResponseEntity<ApiResponse<SalarySimulationResponse>> simulateSalaries(
+            @Valid @RequestBody SalarySimulationRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(salarySimulationService.simulate(request)));
+    }
+
     @PostMapping("/generate")
     public ResponseEntity<ApiResponse<Salary>> generateSalary(@Valid @RequestBody SalaryGenerationRequest request) {
         Salary salary = salaryCalculationService.generateSalary(
@@ -41,7 +76,7 @@ public class SalaryController {
             smsService.sendSalarySms(salary.getId());
         } catch (Exception e) {
             // Log error but don't fail the request
-            System.err.println("Failed to send SMS: " + e.getMessage());
+            log.warn("Failed to send SMS for salary {}: {}", salary.getId(), e.getMessage());
         }
         
         return ResponseEntity.status(HttpStatus.CREATED)
@@ -54,11 +89,41 @@ public class SalaryController {
         return ResponseEntity.ok(ApiResponse.success(salaries));
     }
 
+    @GetMapping("/employee/{employeeId}/payslips")
+    public ResponseEntity<ApiResponse<List<PayslipResponse>>> getEmployeePayslips(@PathVariable Long employeeId) {
+        return ResponseEntity.ok(ApiResponse.success(payslipService.getEmployeePayslips(employeeId)));
+    }
+
+    @GetMapping("/{salaryId}/payslip")
+    public ResponseEntity<ApiResponse<PayslipResponse>> getPayslip(@PathVariable Long salaryId) {
+        return ResponseEntity.ok(ApiResponse.success(payslipService.getPayslip(salaryId)));
+    }
+
+    @PostMapping("/{salaryId}/finalize")
+    public ResponseEntity<ApiResponse<PayslipResponse>> finalizeSalary(@PathVariable Long salaryId) {
+        return ResponseEntity.ok(ApiResponse.success("Salary finalized", payslipService.finalizeSalary(salaryId)));
+    }
+
+    @PostMapping("/finalize/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<PayslipFinalizeResponse>> finalizeMonth(
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        return ResponseEntity.ok(ApiResponse.success("Salaries finalized", payslipService.finalizeMonth(month, year)));
+    }
+
     @PostMapping("/{salaryId}/send-sms")
     public ResponseEntity<ApiResponse<Object>> sendSms(@PathVariable Long salaryId) {
         smsService.sendSalarySms(salaryId);
         return ResponseEntity.ok(ApiResponse.success("SMS sent successfully", null));
     }
+
+    @PostMapping("/send-sms/month/{month}/year/{year}")
+    public ResponseEntity<ApiResponse<SmsDispatchResponse>> sendPendingSms(
+            @PathVariable Integer month,
+            @PathVariable Integer year) {
+        SmsDispatchResponse response = smsService.sendPendingSalarySms(month, year);
+        return ResponseEntity.ok(ApiResponse.success("SMS dispatch completed", response));
+    }
 }
 
 
@@ -1,6 +1,8 @@
 package com.empmanage.dto.request;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -20,6 +22,11 @@ public class AdvanceRequest {
     private LocalDate advanceDate;
     
     private String description;
+
+    // Monthly installments, the first due in the advance's month; defaults to 1
+    @Min(value = 1, message = "Installments must be between 1 and 24")
+    @Max(value = 24, message = "Installments must be between 1 and 24")
+    private Integer installments;
 }
 
 
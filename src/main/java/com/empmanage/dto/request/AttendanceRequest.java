@@ -0,0 +1,39 @@
+package com.empmanage.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Sets an employee's attendance for a month, either day by day through the three day
+ * lists or, when none is given, as a count: the first daysWorked working days present
+ * (then weekly offs and holidays, if the count is larger) and the remaining working days
+ * absent.
+ */
+@Data
+public class AttendanceRequest {
+    @NotNull(message = "Employee ID is required")
+    private Long employeeId;
+
+    @NotNull(message = "Month is required")
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer month;
+
+    @NotNull(message = "Year is required")
+    @Min(value = 2000, message = "Year must be a valid year")
+    private Integer year;
+
+    @Min(value = 0, message = "Days worked must be between 0 and 31")
+    @Max(value = 31, message = "Days worked must be between 0 and 31")
+    private Integer daysWorked;
+
+    private List<Integer> presentDays;
+
+    private List<Integer> halfDays;
+
+    private List<Integer> absentDays;
+}
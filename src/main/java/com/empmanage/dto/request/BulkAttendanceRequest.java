@@ -0,0 +1,21 @@
+package com.empmanage.dto.request;
+
+import com.empmanage.entity.Attendance;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BulkAttendanceRequest {
+    @NotNull(message = "Date is required")
+    private LocalDate date;
+
+    @NotNull(message = "Status is required")
+    private Attendance.Status status;
+
+    @NotEmpty(message = "At least one employee ID is required")
+    private List<Long> employeeIds;
+}
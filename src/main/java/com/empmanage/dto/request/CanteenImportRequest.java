@@ -0,0 +1,42 @@
+package com.empmanage.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * One canteen day: the meals each employee took on {@code date} at a common price.
+ */
+@Data
+public class CanteenImportRequest {
+    @NotNull(message = "Date is required")
+    private LocalDate date;
+
+    @NotNull(message = "Price per meal is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price per meal must be greater than 0")
+    private BigDecimal pricePerMeal;
+
+    private String description;
+
+    @NotEmpty(message = "At least one entry is required")
+    @Valid
+    private List<Entry> entries;
+
+    @Data
+    public static class Entry {
+        @NotNull(message = "Employee ID is required")
+        private Long employeeId;
+
+        // Defaults to 1 when omitted; an explicit null is rejected
+        @NotNull(message = "Meals is required")
+        @Min(value = 1, message = "Meals must be at least 1")
+        private Integer meals = 1;
+    }
+}
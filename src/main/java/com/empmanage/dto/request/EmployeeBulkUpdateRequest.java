@@ -0,0 +1,38 @@
+package com.empmanage.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class EmployeeBulkUpdateRequest {
+    // Changes; at least one is required. A percent raise is applied before a fixed one.
+    @DecimalMin(value = "-100", message = "Raise percent cannot be below -100")
+    private BigDecimal raisePercent;
+
+    private BigDecimal raiseAmount;
+
+    @DecimalMin(value = "0", message = "PF amount cannot be negative")
+    private BigDecimal pfAmount;
+
+    private Boolean active;
+
+    @NotNull(message = "Effective date is required")
+    private LocalDate effectiveDate;
+
+    @Size(max = 500, message = "Reason cannot exceed 500 characters")
+    private String reason;
+
+    // Filters; all active employees when none is set
+    @Size(max = 10000, message = "At most 10000 employee ids per request")
+    private List<Long> employeeIds;
+    private BigDecimal minBaseSalary;
+    private BigDecimal maxBaseSalary;
+    // Inactive employees are always included when reactivating
+    private Boolean includeInactive = false;
+}
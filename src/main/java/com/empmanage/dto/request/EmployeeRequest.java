@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Data
 public class EmployeeRequest {
@@ -24,6 +25,9 @@ public class EmployeeRequest {
     @NotNull(message = "PF amount is required")
     @DecimalMin(value = "0.0", message = "PF amount must be 0 or greater")
     private BigDecimal pfAmount;
+
+    // When a base salary or PF change takes effect on update; defaults to today
+    private LocalDate effectiveDate;
 }
 
 
@@ -0,0 +1,27 @@
+package com.empmanage.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class FoodExpenseRequest {
+    @NotNull(message = "Employee ID is required")
+    private Long employeeId;
+
+    @NotNull(message = "Expense date is required")
+    private LocalDate expenseDate;
+
+    @Min(value = 1, message = "Meals must be at least 1")
+    private Integer meals = 1;
+
+    @NotNull(message = "Price per meal is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price per meal must be greater than 0")
+    private BigDecimal pricePerMeal;
+
+    private String description;
+}
@@ -0,0 +1,18 @@
+package com.empmanage.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class HolidayRequest {
+    @NotNull(message = "Holiday date is required")
+    private LocalDate holidayDate;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+}
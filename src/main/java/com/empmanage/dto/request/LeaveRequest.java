@@ -14,7 +14,7 @@ public class LeaveRequest {
     @NotNull(message = "Leave date is required")
     private LocalDate leaveDate;
     
-    @NotNull(message = "Leave type is required")
+    // Left out, or PAID with no paid days left, records the leave as UNPAID when needed
     private Leave.LeaveType leaveType;
     
     private String description;
@@ -0,0 +1,45 @@
+package com.empmanage.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+public class SalarySimulationRequest {
+    @NotNull(message = "Month is required")
+    @Min(value = 1, message = "Month must be between 1 and 12")
+    @Max(value = 12, message = "Month must be between 1 and 12")
+    private Integer month;
+
+    @NotNull(message = "Year is required")
+    @Min(value = 2000, message = "Year must be a valid year")
+    private Integer year;
+
+    // Base salary change in percent, e.g. 5 for a 5% raise; applied before baseSalaryChange
+    @DecimalMin(value = "-100", message = "Base salary percent cannot be below -100")
+    private BigDecimal baseSalaryPercent;
+
+    // Fixed amount added to every base salary
+    private BigDecimal baseSalaryChange;
+
+    // Replaces every employee's PF amount
+    @DecimalMin(value = "0", message = "PF amount cannot be negative")
+    private BigDecimal pfAmount;
+
+    // Replaces the month's working days a base salary is divided by for leave and absence deductions
+    @Min(value = 1, message = "Leave divisor must be between 1 and 31")
+    @Max(value = 31, message = "Leave divisor must be between 1 and 31")
+    private Integer leaveDivisor;
+
+    // Filters; all active employees when none is set
+    private List<Long> employeeIds;
+    private BigDecimal minBaseSalary;
+    private BigDecimal maxBaseSalary;
+
+    private Boolean includeEmployees = true;
+}
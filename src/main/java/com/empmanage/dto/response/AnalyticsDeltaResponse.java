@@ -0,0 +1,34 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsDeltaResponse {
+    private Integer year;
+    private Integer month;
+    private Integer previousYear;
+    private Integer previousMonth;
+    private String measure;
+    private BigDecimal currentTotal;
+    private BigDecimal previousTotal;
+    private BigDecimal delta;
+    private List<Entry> entries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long employeeId;
+        private String employeeName;
+        private BigDecimal previous;
+        private BigDecimal current;
+        private BigDecimal delta;
+    }
+}
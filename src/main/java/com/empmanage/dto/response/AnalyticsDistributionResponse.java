@@ -0,0 +1,34 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsDistributionResponse {
+    private Integer year;
+    private Integer month;
+    private String measure;
+    private Integer employees;
+    private BigDecimal total;
+    private BigDecimal min;
+    private BigDecimal max;
+    private BigDecimal mean;
+    private Map<String, BigDecimal> percentiles;
+    private List<Bucket> histogram;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private BigDecimal from;
+        private BigDecimal to;
+        private Integer employees;
+    }
+}
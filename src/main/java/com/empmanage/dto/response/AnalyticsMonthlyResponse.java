@@ -0,0 +1,26 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsMonthlyResponse {
+    private Integer year;
+    private String measure;
+    private List<MonthTotal> months;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthTotal {
+        private Integer month;
+        private Integer employees;
+        private BigDecimal total;
+    }
+}
@@ -0,0 +1,31 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsRankingResponse {
+    private Integer year;
+    // Null when the ranking covers the whole year
+    private Integer month;
+    private String measure;
+    private Integer employees;
+    private List<Entry> entries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long employeeId;
+        private String employeeName;
+        private BigDecimal value;
+        // Only set for ratio rankings
+        private BigDecimal ratio;
+    }
+}
@@ -0,0 +1,24 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceResponse {
+    private Long id;
+    private Long employeeId;
+    private Integer month;
+    private Integer year;
+    private Integer daysInMonth;
+    private BigDecimal daysWorked;
+    private BigDecimal unpaidAbsenceDays;
+    private List<Integer> presentDays;
+    private List<Integer> halfDays;
+    private List<Integer> absentDays;
+}
@@ -0,0 +1,18 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CanteenImportResponse {
+    private LocalDate date;
+    private Integer employees;
+    private Integer meals;
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,18 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkUpdateResponse {
+    private Long changeId;
+    private Integer affectedEmployees;
+    private LocalDate effectiveDate;
+    private LocalDateTime appliedAt;
+}
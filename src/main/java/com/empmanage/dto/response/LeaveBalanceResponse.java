@@ -0,0 +1,19 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceResponse {
+    private Long employeeId;
+    private Integer year;
+    private String accrual;
+    private Integer entitlement;
+    private Integer accrued;
+    private Integer paidTaken;
+    private Integer unpaidTaken;
+    private Integer available;
+}
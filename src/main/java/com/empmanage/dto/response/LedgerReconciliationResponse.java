@@ -0,0 +1,36 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerReconciliationResponse {
+    private Integer month;
+    private Integer year;
+    private Integer employeesChecked;
+    private boolean repaired;
+    private List<Mismatch> mismatches;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Mismatch {
+        private Long employeeId;
+        private BigDecimal ledgerOvertimeTotal;
+        private BigDecimal actualOvertimeTotal;
+        private BigDecimal ledgerAdvanceTotal;
+        private BigDecimal actualAdvanceTotal;
+        private Integer ledgerUnpaidLeaveDays;
+        private Integer actualUnpaidLeaveDays;
+        private Integer ledgerUnpaidLeaveBits;
+        private Integer actualUnpaidLeaveBits;
+        private BigDecimal ledgerFoodTotal;
+        private BigDecimal actualFoodTotal;
+    }
+}
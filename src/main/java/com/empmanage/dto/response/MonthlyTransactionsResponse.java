@@ -0,0 +1,44 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyTransactionsResponse {
+    private Long employeeId;
+    private Integer month;
+    private Integer year;
+    private List<TypeTotal> totals;
+    private List<Entry> entries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeTotal {
+        private String type; // OVERTIME, ADVANCE, LEAVE, FOOD, ATTENDANCE
+        private Long count;
+        private BigDecimal amount;
+        private BigDecimal quantity;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String type;
+        private Long id;
+        private LocalDate date;
+        private BigDecimal amount;
+        private BigDecimal quantity;
+        private BigDecimal rate;
+        private String subtype;
+        private String description;
+    }
+}
@@ -0,0 +1,29 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunResponse {
+    private Long id;
+    private Integer month;
+    private Integer year;
+    private String status;
+    private Integer chunkSize;
+    private Integer chunksCompleted;
+    private Long totalEmployees;
+    private Long processedEmployees;
+    private Long generatedCount;
+    private Long skippedCount;
+    private Long failedCount;
+    private Integer progressPercent;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
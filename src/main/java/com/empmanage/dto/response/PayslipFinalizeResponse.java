@@ -0,0 +1,15 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayslipFinalizeResponse {
+    private Integer month;
+    private Integer year;
+    private Integer finalized;
+    private Integer alreadyFinalized;
+}
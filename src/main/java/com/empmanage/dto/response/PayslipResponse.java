@@ -0,0 +1,20 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayslipResponse {
+    private Long salaryId;
+    private Integer formatVersion;
+    private LocalDateTime finalizedAt;
+    private String checksum;
+    // False when the stored payload no longer matches its checksum
+    private Boolean verified;
+    private PayslipSnapshot payslip;
+}
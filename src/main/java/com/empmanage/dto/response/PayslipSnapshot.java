@@ -0,0 +1,46 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Serialized form of a finalized payslip. Adding fields is backward compatible;
+ * renaming or removing one needs a new {@code PayslipService.FORMAT_VERSION}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayslipSnapshot {
+    private Integer formatVersion;
+    private Long salaryId;
+    private Long employeeId;
+    private String employeeName;
+    private String employeeMobile;
+    private Integer month;
+    private Integer year;
+    private BigDecimal baseSalary;
+    private BigDecimal totalOvertime;
+    private BigDecimal totalAdvances;
+    private BigDecimal totalLeaves;
+    private BigDecimal attendanceDays;
+    private BigDecimal attendanceDeduction;
+    private BigDecimal foodExpense;
+    private BigDecimal pfDeduction;
+    private BigDecimal finalSalary;
+    private List<Line> lines;
+    private String smsText;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private String type;
+        private String date;
+        private BigDecimal amount;
+        private String description;
+    }
+}
@@ -0,0 +1,19 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryGeneratedEvent {
+    private Long salaryId;
+    private Long employeeId;
+    private String employeeName;
+    private Integer month;
+    private Integer year;
+    private BigDecimal finalSalary;
+}
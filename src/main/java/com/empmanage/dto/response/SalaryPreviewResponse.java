@@ -21,6 +21,12 @@ public class SalaryPreviewResponse {
     private BigDecimal totalAdvances;
     private BigDecimal unpaidLeaveDays;
     private BigDecimal leaveDeduction;
+    private Integer daysInMonth;
+    private Integer workingDays;
+    private BigDecimal attendanceDays;
+    private BigDecimal unpaidAbsenceDays;
+    private BigDecimal attendanceDeduction;
+    private BigDecimal foodExpense;
     private BigDecimal pfDeduction;
     private BigDecimal finalSalary;
     private List<SalaryDetailItem> dateWiseBreakdown;
@@ -29,7 +35,7 @@ public class SalaryPreviewResponse {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class SalaryDetailItem {
-        private String type; // OVERTIME, ADVANCE, LEAVE
+        private String type; // OVERTIME, ADVANCE, LEAVE, ABSENCE, FOOD
         private String date;
         private BigDecimal amount;
         private String description;
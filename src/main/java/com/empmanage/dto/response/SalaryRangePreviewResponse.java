@@ -0,0 +1,29 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryRangePreviewResponse {
+    private Long employeeId;
+    private String employeeName;
+    private Integer fromMonth;
+    private Integer fromYear;
+    private Integer toMonth;
+    private Integer toYear;
+    private List<SalaryPreviewResponse> months;
+    private BigDecimal totalBaseSalary = BigDecimal.ZERO;
+    private BigDecimal totalOvertime = BigDecimal.ZERO;
+    private BigDecimal totalAdvances = BigDecimal.ZERO;
+    private BigDecimal totalLeaveDeduction = BigDecimal.ZERO;
+    private BigDecimal totalAttendanceDeduction = BigDecimal.ZERO;
+    private BigDecimal totalFoodExpense = BigDecimal.ZERO;
+    private BigDecimal totalPfDeduction = BigDecimal.ZERO;
+    private BigDecimal totalFinalSalary = BigDecimal.ZERO;
+}
@@ -0,0 +1,40 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalarySimulationResponse {
+    private Integer month;
+    private Integer year;
+    private Integer employees;
+    private BigDecimal currentBaseTotal;
+    private BigDecimal simulatedBaseTotal;
+    private BigDecimal currentPfTotal;
+    private BigDecimal simulatedPfTotal;
+    private BigDecimal currentTotal;
+    private BigDecimal simulatedTotal;
+    private BigDecimal delta;
+    private Long elapsedMs;
+    // Null when includeEmployees is false
+    private List<Entry> entries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long employeeId;
+        private String employeeName;
+        private BigDecimal currentBaseSalary;
+        private BigDecimal simulatedBaseSalary;
+        private BigDecimal currentFinalSalary;
+        private BigDecimal simulatedFinalSalary;
+        private BigDecimal delta;
+    }
+}
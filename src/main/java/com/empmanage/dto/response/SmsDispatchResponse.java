@@ -0,0 +1,15 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmsDispatchResponse {
+    private Integer month;
+    private Integer year;
+    private Integer sent;
+    private Integer failed;
+}
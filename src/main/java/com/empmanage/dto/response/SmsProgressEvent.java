@@ -0,0 +1,16 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SmsProgressEvent {
+    private Long salaryId;
+    private Long employeeId;
+    private Integer month;
+    private Integer year;
+    private String error;
+}
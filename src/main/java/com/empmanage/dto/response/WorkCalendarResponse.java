@@ -0,0 +1,19 @@
+package com.empmanage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkCalendarResponse {
+    private Integer month;
+    private Integer year;
+    private Integer daysInMonth;
+    private Integer workingDays;
+    private List<Integer> weeklyOffDays;
+    private List<Integer> holidayDays;
+}
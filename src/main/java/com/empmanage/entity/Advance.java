@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -33,6 +34,16 @@ public class Advance {
 
     @Column(length = 500)
     private String description;
+
+    // Monthly installments it is repaid in, starting with the month it was given
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private Integer installments = 1;
+
+    // Amount of the installments no salary has deducted yet
+    @ColumnDefault("0")
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal outstandingAmount = BigDecimal.ZERO;
 }
 
 
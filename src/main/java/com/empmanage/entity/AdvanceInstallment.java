@@ -0,0 +1,58 @@
+package com.empmanage.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * One month's repayment of an {@link Advance}. A salary deducts the installments due in
+ * its month and records itself in {@code salaryId}; an installment with a salary id has
+ * been repaid.
+ */
+@Entity
+@Table(name = "advance_installments",
+       indexes = @Index(name = "idx_advance_installments_due", columnList = "employee_id, due_year, due_month"),
+       uniqueConstraints = @UniqueConstraint(columnNames = {"advance_id", "installment_number"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdvanceInstallment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "advance_id", nullable = false)
+    private Long advanceId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "advance_id", insertable = false, updatable = false)
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Advance advance;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "installment_number", nullable = false)
+    private Integer installmentNumber;
+
+    @Column(name = "due_month", nullable = false)
+    private Integer dueMonth;
+
+    @Column(name = "due_year", nullable = false)
+    private Integer dueYear;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "salary_id")
+    private Long salaryId;
+}
@@ -0,0 +1,85 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One employee's attendance for a month as three day bitmaps: bit {@code day - 1} of
+ * each column is set when the employee was present, on a half day or absent that day.
+ * A day is in at most one of the three sets; unmarked days are not tracked.
+ * Absent days are unpaid absences without a leave record.
+ */
+@Entity
+@Table(name = "attendances", uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "month", "year"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Attendance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer presentBits = 0;
+
+    @Column(nullable = false)
+    private Integer halfDayBits = 0;
+
+    @Column(nullable = false)
+    private Integer absentBits = 0;
+
+    public Attendance(Long employeeId, Integer month, Integer year) {
+        this.employeeId = employeeId;
+        this.month = month;
+        this.year = year;
+    }
+
+    public enum Status {
+        PRESENT, HALF_DAY, ABSENT
+    }
+
+    public static int dayBit(int day) {
+        return 1 << (day - 1);
+    }
+
+    /** Present days plus half of the half days. */
+    public BigDecimal daysWorked() {
+        return BigDecimal.valueOf(Integer.bitCount(presentBits))
+                .add(BigDecimal.valueOf(Integer.bitCount(halfDayBits)).multiply(new BigDecimal("0.5")));
+    }
+
+    /** Absent days plus half of the half days. */
+    public BigDecimal unpaidAbsenceDays() {
+        return unpaidAbsenceDays(-1);
+    }
+
+    /** Absent days plus half of the half days, counting only the days set in {@code dayBits}. */
+    public BigDecimal unpaidAbsenceDays(int dayBits) {
+        return BigDecimal.valueOf(Integer.bitCount(absentBits & dayBits))
+                .add(BigDecimal.valueOf(Integer.bitCount(halfDayBits & dayBits)).multiply(new BigDecimal("0.5")));
+    }
+
+    public static List<Integer> days(int bits) {
+        List<Integer> days = new ArrayList<>(Integer.bitCount(bits));
+        for (int remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            days.add(Integer.numberOfTrailingZeros(remaining) + 1);
+        }
+        return days;
+    }
+}
@@ -0,0 +1,55 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Audit header of one bulk employee update. Unset change fields were left alone; the
+ * per-employee before and after values are in {@link EmployeeBulkChangeItem}.
+ */
+@Entity
+@Table(name = "employee_bulk_changes")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(precision = 7, scale = 2)
+    private BigDecimal raisePercent;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal raiseAmount;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal pfAmount;
+
+    private Boolean active;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal minBaseSalary;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal maxBaseSalary;
+
+    @Column(nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(length = 500)
+    private String reason;
+
+    @Column(nullable = false)
+    private Integer affectedEmployees = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,49 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One employee's values before and after a bulk change. Rows are written with a single
+ * INSERT ... SELECT and the employees are then updated from them.
+ */
+@Entity
+@Table(name = "employee_bulk_change_items",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"change_id", "employee_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeBulkChangeItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "change_id", nullable = false)
+    private Long changeId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal oldBaseSalary;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal newBaseSalary;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal oldPfAmount;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal newPfAmount;
+
+    @Column(nullable = false)
+    private Boolean oldActive;
+
+    @Column(nullable = false)
+    private Boolean newActive;
+}
@@ -0,0 +1,45 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Base salary and PF amount in force for an employee from {@code effectiveFrom} until the
+ * next row. An employee's first row is dated {@link LocalDate#EPOCH}: the rate they were
+ * added with applies to every month before their first recorded change.
+ */
+@Entity
+@Table(name = "employee_compensations",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "effective_from"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeCompensation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal baseSalary;
+
+    @Column(name = "pf_amount", nullable = false, precision = 10, scale = 2)
+    private BigDecimal pfAmount;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
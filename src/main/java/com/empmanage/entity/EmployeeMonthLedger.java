@@ -0,0 +1,55 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Running per-employee monthly totals, kept in step with the overtime, advance, leave
+ * and food expense rows so salary previews can be computed from a single row.
+ */
+@Entity
+@Table(name = "employee_month_ledger", uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "month", "year"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeMonthLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal overtimeTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal advanceTotal = BigDecimal.ZERO;
+
+    @Column(nullable = false)
+    private Integer unpaidLeaveDays = 0;
+
+    // Days of the month with an unpaid leave, bit (day - 1) as in Attendance
+    @Column(nullable = false)
+    private Integer unpaidLeaveBits = 0;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal foodTotal = BigDecimal.ZERO;
+
+    public EmployeeMonthLedger(Long employeeId, Integer month, Integer year) {
+        this.employeeId = employeeId;
+        this.month = month;
+        this.year = year;
+    }
+}
@@ -0,0 +1,44 @@
+package com.empmanage.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Canteen meals taken by an employee on one day, deducted from that month's salary.
+ */
+@Entity
+@Table(name = "food_expenses")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodExpense {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "employee_id", nullable = false)
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    private Employee employee;
+
+    @Column(nullable = false)
+    private LocalDate expenseDate;
+
+    @Column(nullable = false)
+    private Integer meals;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal pricePerMeal;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(length = 500)
+    private String description;
+}
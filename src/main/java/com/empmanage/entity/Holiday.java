@@ -0,0 +1,26 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "holidays", uniqueConstraints = @UniqueConstraint(columnNames = "holiday_date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Holiday {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "holiday_date", nullable = false)
+    private LocalDate holidayDate;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+}
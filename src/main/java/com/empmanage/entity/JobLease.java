@@ -0,0 +1,42 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide ownership of a unit of bulk work, e.g. payroll generation for one month.
+ * A lease is owned by one node until it is released or its heartbeat stops and it expires.
+ */
+@Entity
+@Table(name = "job_leases", uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "lease_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLease {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "lease_key", nullable = false, length = 50)
+    private String leaseKey;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime acquiredAt;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,44 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paid leave entitlement and leaves taken by one employee in one calendar year, kept in
+ * step with the leave rows so the balance is read from a single row.
+ */
+@Entity
+@Table(name = "leave_balances", uniqueConstraints = @UniqueConstraint(columnNames = {"employee_id", "year"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    // Paid leave days for the whole year, fixed when the row is created
+    @Column(nullable = false)
+    private Integer entitlement;
+
+    @Column(nullable = false)
+    private Integer paidTaken = 0;
+
+    @Column(nullable = false)
+    private Integer unpaidTaken = 0;
+
+    public LeaveBalance(Long employeeId, Integer year, Integer entitlement) {
+        this.employeeId = employeeId;
+        this.year = year;
+        this.entitlement = entitlement;
+    }
+}
@@ -0,0 +1,80 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One month-end payroll run. The row doubles as the checkpoint: it is updated in the
+ * same transaction as each chunk of generated salaries, so {@code lastEmployeeId}
+ * always points at the last employee whose salary was committed.
+ */
+@Entity
+@Table(name = "payroll_runs", uniqueConstraints = @UniqueConstraint(columnNames = {"month", "year"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RunStatus status;
+
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Column(nullable = false)
+    private Long totalEmployees = 0L;
+
+    @Column(nullable = false)
+    private Long lastEmployeeId = 0L;
+
+    @Column(nullable = false)
+    private Integer chunksCompleted = 0;
+
+    @Column(nullable = false)
+    private Long processedEmployees = 0L;
+
+    @Column(nullable = false)
+    private Long generatedCount = 0L;
+
+    @Column(nullable = false)
+    private Long skippedCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long failedCount = 0L;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum RunStatus {
+        RUNNING, COMPLETED, FAILED
+    }
+}
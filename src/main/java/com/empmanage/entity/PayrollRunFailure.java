@@ -0,0 +1,45 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * An employee whose salary could not be generated in a payroll run. The run skips the
+ * employee and carries on; the salary can be generated individually once the cause is fixed.
+ */
+@Entity
+@Table(name = "payroll_run_failures",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "employee_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunFailure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime failedAt;
+
+    public PayrollRunFailure(Long runId, Long employeeId, String message) {
+        this.runId = runId;
+        this.employeeId = employeeId;
+        this.message = message;
+    }
+}
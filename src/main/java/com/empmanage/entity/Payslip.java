@@ -0,0 +1,48 @@
+package com.empmanage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The payslip of a finalized salary, frozen at finalization. The whole payslip is one
+ * serialized payload keyed by the salary id; the checksum is the SHA-256 of the payload,
+ * so a row edited after the fact no longer verifies. Rows are inserted by
+ * {@code PayslipService} with SQL that keeps a payslip stored first.
+ */
+@Entity
+@Table(name = "payslips", indexes = @Index(name = "idx_payslips_employee", columnList = "employee_id, year, month"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Payslip {
+
+    @Id
+    @Column(name = "salary_id")
+    private Long salaryId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private Integer month;
+
+    @Column(nullable = false)
+    private Integer year;
+
+    @Column(nullable = false)
+    private Integer formatVersion;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false, length = 64)
+    private String checksum;
+
+    @Column(nullable = false)
+    private LocalDateTime finalizedAt;
+}
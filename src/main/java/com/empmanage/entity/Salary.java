@@ -49,6 +49,16 @@ public class Salary {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal finalSalary;
 
+    // Null when no attendance was recorded for the month
+    @Column(precision = 4, scale = 1)
+    private BigDecimal attendanceDays;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal attendanceDeduction = BigDecimal.ZERO;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal foodExpense = BigDecimal.ZERO;
+
     @Column(nullable = false)
     private Boolean smsSent = false;
 
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,7 +27,9 @@ public class SalaryDetail {
     @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
     private Salary salary;
 
+    // A plain VARCHAR, not a MySQL enum, so new types need no column change (see SchemaUpgrades)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 20)
     private DetailType type;
 
@@ -39,7 +43,7 @@ public class SalaryDetail {
     private String description;
 
     public enum DetailType {
-        OVERTIME, ADVANCE, LEAVE
+        OVERTIME, ADVANCE, LEAVE, ABSENCE, FOOD
     }
 }
 
@@ -0,0 +1,25 @@
+package com.empmanage.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Application event for something clients of {@code /api/events} should hear about.
+ * The type becomes the SSE event name and the data its JSON payload.
+ */
+@Data
+@AllArgsConstructor
+public class LiveUpdate {
+
+    public static final String EMPLOYEE_CHANGED = "employee.changed";
+    public static final String SALARY_GENERATED = "salary.generated";
+    public static final String PAYROLL_RUN = "payroll.run";
+    public static final String SMS_SENT = "sms.sent";
+    public static final String SMS_FAILED = "sms.failed";
+    public static final String SMS_DISPATCH = "sms.dispatch";
+    public static final String DASHBOARD = "dashboard";
+    public static final String CALENDAR_CHANGED = "calendar.changed";
+
+    private String type;
+    private Object data;
+}
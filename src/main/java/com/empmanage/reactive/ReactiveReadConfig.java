@@ -0,0 +1,53 @@
+package com.empmanage.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * R2DBC connection pool and repositories for the reactive read server. Only active with
+ * the {@code reactive} profile; Spring Boot's R2DBC auto-configuration is excluded so the
+ * default servlet/JPA application does not need an R2DBC URL.
+ */
+@Configuration
+@Profile("reactive")
+@PropertySource("classpath:reactive.properties")
+@EnableR2dbcRepositories(basePackages = "com.empmanage.reactive.repository")
+public class ReactiveReadConfig extends AbstractR2dbcConfiguration {
+
+    @Value("${spring.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.r2dbc.username:${spring.datasource.username:}}")
+    private String username;
+
+    @Value("${spring.r2dbc.password:${spring.datasource.password:}}")
+    private String password;
+
+    @Value("${spring.r2dbc.pool.max-size:10}")
+    private int maxPoolSize;
+
+    @Override
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory() {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-read")
+                .maxSize(maxPoolSize)
+                .build());
+    }
+}
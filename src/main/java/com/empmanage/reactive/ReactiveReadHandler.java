@@ -0,0 +1,115 @@
+package com.empmanage.reactive;
+
+import com.empmanage.dto.response.ApiResponse;
+import com.empmanage.dto.response.DashboardResponse;
+import com.empmanage.reactive.model.AdvanceView;
+import com.empmanage.reactive.model.EmployeeView;
+import com.empmanage.reactive.model.LeaveView;
+import com.empmanage.reactive.model.OvertimeView;
+import com.empmanage.reactive.model.SalaryView;
+import com.empmanage.reactive.repository.ReactiveAdvanceRepository;
+import com.empmanage.reactive.repository.ReactiveEmployeeRepository;
+import com.empmanage.reactive.repository.ReactiveLeaveRepository;
+import com.empmanage.reactive.repository.ReactiveOvertimeRepository;
+import com.empmanage.reactive.repository.ReactiveSalaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Reactive versions of the read endpoints, on the same paths as the servlet API.
+ * Lists are streamed straight from the R2DBC cursor as a JSON array, or as
+ * newline-delimited JSON when the client accepts {@code application/x-ndjson}; rows are
+ * only fetched as fast as the client reads them.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveReadHandler {
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final ReactiveSalaryRepository salaryRepository;
+    private final ReactiveOvertimeRepository overtimeRepository;
+    private final ReactiveAdvanceRepository advanceRepository;
+    private final ReactiveLeaveRepository leaveRepository;
+
+    public RouterFunction<ServerResponse> routes() {
+        return route(GET("/api/dashboard"), this::dashboard)
+                .andRoute(GET("/api/employees"), this::employees)
+                .andRoute(GET("/api/salaries/employee/{employeeId}"), this::salaryHistory)
+                .andRoute(GET("/api/overtimes/employee/{employeeId}/month/{month}/year/{year}"), this::overtimes)
+                .andRoute(GET("/api/advances/employee/{employeeId}/month/{month}/year/{year}"), this::advances)
+                .andRoute(GET("/api/leaves/employee/{employeeId}/month/{month}/year/{year}"), this::leaves);
+    }
+
+    private Mono<ServerResponse> dashboard(ServerRequest request) {
+        YearMonth current = YearMonth.now();
+        YearMonth last = current.minusMonths(1);
+        Mono<DashboardResponse> summary = Mono.zip(
+                employeeRepository.count(),
+                employeeRepository.countByActiveTrue(),
+                salaryRepository.getTotalSalaryForMonth(current.getMonthValue(), current.getYear()),
+                salaryRepository.getTotalSalaryForMonth(last.getMonthValue(), last.getYear()),
+                employeeRepository.countActiveWithoutSalaryForMonth(current.getMonthValue(), current.getYear()))
+                .map(t -> new DashboardResponse(t.getT1(), t.getT2(), t.getT3(), t.getT4(), t.getT5()));
+        return summary.flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(ApiResponse.success(response)));
+    }
+
+    private Mono<ServerResponse> employees(ServerRequest request) {
+        return stream(request, employeeRepository.findByActiveTrueOrderByIdAsc(), EmployeeView.class);
+    }
+
+    private Mono<ServerResponse> salaryHistory(ServerRequest request) {
+        return stream(request, salaryRepository.findByEmployeeIdOrderByYearDescMonthDesc(employeeId(request)),
+                SalaryView.class);
+    }
+
+    private Mono<ServerResponse> overtimes(ServerRequest request) {
+        YearMonth month = yearMonth(request);
+        return stream(request, overtimeRepository.findByEmployeeIdAndOvertimeDateBetweenOrderByOvertimeDateAsc(
+                employeeId(request), month.atDay(1), month.atEndOfMonth()), OvertimeView.class);
+    }
+
+    private Mono<ServerResponse> advances(ServerRequest request) {
+        YearMonth month = yearMonth(request);
+        return stream(request, advanceRepository.findByEmployeeIdAndAdvanceDateBetweenOrderByAdvanceDateAsc(
+                employeeId(request), month.atDay(1), month.atEndOfMonth()), AdvanceView.class);
+    }
+
+    private Mono<ServerResponse> leaves(ServerRequest request) {
+        YearMonth month = yearMonth(request);
+        return stream(request, leaveRepository.findByEmployeeIdAndLeaveDateBetweenOrderByLeaveDateAsc(
+                employeeId(request), month.atDay(1), month.atEndOfMonth()), LeaveView.class);
+    }
+
+    private <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> rows, Class<T> type) {
+        List<MediaType> accept = request.headers().accept();
+        MediaType contentType = accept.contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(rows, type);
+    }
+
+    private Long employeeId(ServerRequest request) {
+        return Long.valueOf(request.pathVariable("employeeId"));
+    }
+
+    private YearMonth yearMonth(ServerRequest request) {
+        return YearMonth.of(Integer.parseInt(request.pathVariable("year")),
+                Integer.parseInt(request.pathVariable("month")));
+    }
+}
@@ -0,0 +1,95 @@
+package com.empmanage.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Runs the reactive read endpoints on their own Reactor Netty server next to the servlet
+ * container, so polling clients are served by a few event-loop threads while writes keep
+ * going through the JPA services on the main port.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final ReactiveReadHandler handler;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final int eventLoopThreads;
+    private LoopResources loops;
+    private DisposableServer server;
+
+    public ReactiveReadServer(ReactiveReadHandler handler, ObjectMapper objectMapper,
+                              @Value("${reactive.server.port:8081}") int port,
+                              @Value("${reactive.server.event-loop-threads:4}") int eventLoopThreads) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        loops = LoopResources.create("reactive-read", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loops)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler()))
+                .bindNow();
+        log.info("Reactive read server listening on port {}", server.port());
+    }
+
+    private HttpHandler httpHandler() {
+        CorsConfiguration cors = new CorsConfiguration();
+        cors.addAllowedOrigin("*");
+        cors.addAllowedMethod("GET");
+        cors.addAllowedHeader("*");
+        UrlBasedCorsConfigurationSource corsSource = new UrlBasedCorsConfigurationSource();
+        corsSource.registerCorsConfiguration("/api/**", cors);
+
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .webFilter(new CorsWebFilter(corsSource))
+                .build();
+        return RouterFunctions.toHttpHandler(handler.routes(), strategies);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+            server = null;
+        }
+        if (loops != null) {
+            loops.disposeLater().block();
+            loops = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.empmanage.reactive.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Table("advances")
+@Data
+@NoArgsConstructor
+public class AdvanceView {
+
+    @Id
+    private Long id;
+    private Long employeeId;
+    private BigDecimal amount;
+    private LocalDate advanceDate;
+    private String description;
+}
@@ -0,0 +1,29 @@
+package com.empmanage.reactive.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only R2DBC mapping of the {@code employees} table. Writes go through the JPA
+ * {@link com.empmanage.entity.Employee} entity.
+ */
+@Table("employees")
+@Data
+@NoArgsConstructor
+public class EmployeeView {
+
+    @Id
+    private Long id;
+    private String name;
+    private String mobile;
+    private BigDecimal baseSalary;
+    private BigDecimal pfAmount;
+    private Boolean active;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.empmanage.reactive.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+@Table("leaves")
+@Data
+@NoArgsConstructor
+public class LeaveView {
+
+    @Id
+    private Long id;
+    private Long employeeId;
+    private LocalDate leaveDate;
+    private String leaveType;
+    private String description;
+}
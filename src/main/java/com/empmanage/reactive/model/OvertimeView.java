@@ -0,0 +1,23 @@
+package com.empmanage.reactive.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Table("overtimes")
+@Data
+@NoArgsConstructor
+public class OvertimeView {
+
+    @Id
+    private Long id;
+    private Long employeeId;
+    private LocalDate overtimeDate;
+    private BigDecimal hours;
+    private BigDecimal ratePerHour;
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,32 @@
+package com.empmanage.reactive.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Table("salaries")
+@Data
+@NoArgsConstructor
+public class SalaryView {
+
+    @Id
+    private Long id;
+    private Long employeeId;
+    private Integer month;
+    private Integer year;
+    private BigDecimal baseSalary;
+    private BigDecimal totalOvertime;
+    private BigDecimal totalAdvances;
+    private BigDecimal totalLeaves;
+    private BigDecimal attendanceDays;
+    private BigDecimal attendanceDeduction;
+    private BigDecimal foodExpense;
+    private BigDecimal pfDeduction;
+    private BigDecimal finalSalary;
+    private Boolean smsSent;
+    private LocalDateTime smsSentAt;
+}
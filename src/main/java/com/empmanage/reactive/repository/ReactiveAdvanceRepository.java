@@ -0,0 +1,12 @@
+package com.empmanage.reactive.repository;
+
+import com.empmanage.reactive.model.AdvanceView;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface ReactiveAdvanceRepository extends ReactiveCrudRepository<AdvanceView, Long> {
+
+    Flux<AdvanceView> findByEmployeeIdAndAdvanceDateBetweenOrderByAdvanceDateAsc(Long employeeId, LocalDate from, LocalDate to);
+}
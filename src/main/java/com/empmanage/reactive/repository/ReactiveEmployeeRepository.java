@@ -0,0 +1,18 @@
+package com.empmanage.reactive.repository;
+
+import com.empmanage.reactive.model.EmployeeView;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeRepository extends ReactiveCrudRepository<EmployeeView, Long> {
+
+    Flux<EmployeeView> findByActiveTrueOrderByIdAsc();
+
+    Mono<Long> countByActiveTrue();
+
+    @Query("SELECT COUNT(*) FROM employees e WHERE e.active = TRUE AND NOT EXISTS " +
+           "(SELECT 1 FROM salaries s WHERE s.employee_id = e.id AND s.month = :month AND s.year = :year)")
+    Mono<Long> countActiveWithoutSalaryForMonth(Integer month, Integer year);
+}
@@ -0,0 +1,12 @@
+package com.empmanage.reactive.repository;
+
+import com.empmanage.reactive.model.LeaveView;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface ReactiveLeaveRepository extends ReactiveCrudRepository<LeaveView, Long> {
+
+    Flux<LeaveView> findByEmployeeIdAndLeaveDateBetweenOrderByLeaveDateAsc(Long employeeId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,12 @@
+package com.empmanage.reactive.repository;
+
+import com.empmanage.reactive.model.OvertimeView;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+public interface ReactiveOvertimeRepository extends ReactiveCrudRepository<OvertimeView, Long> {
+
+    Flux<OvertimeView> findByEmployeeIdAndOvertimeDateBetweenOrderByOvertimeDateAsc(Long employeeId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,17 @@
+package com.empmanage.reactive.repository;
+
+import com.empmanage.reactive.model.SalaryView;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+public interface ReactiveSalaryRepository extends ReactiveCrudRepository<SalaryView, Long> {
+
+    Flux<SalaryView> findByEmployeeIdOrderByYearDescMonthDesc(Long employeeId);
+
+    @Query("SELECT COALESCE(SUM(final_salary), 0) FROM salaries WHERE month = :month AND year = :year")
+    Mono<BigDecimal> getTotalSalaryForMonth(Integer month, Integer year);
+}
@@ -0,0 +1,51 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.AdvanceInstallment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface AdvanceInstallmentRepository extends JpaRepository<AdvanceInstallment, Long> {
+    List<AdvanceInstallment> findByAdvanceIdOrderByInstallmentNumber(Long advanceId);
+
+    /** Installments due in the month with their advance, from the due-month index. */
+    @Query("SELECT i FROM AdvanceInstallment i JOIN FETCH i.advance " +
+           "WHERE i.employeeId = :employeeId AND i.dueYear = :year AND i.dueMonth = :month " +
+           "ORDER BY i.advanceId")
+    List<AdvanceInstallment> findDueByEmployeeIdAndMonthAndYear(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT i FROM AdvanceInstallment i JOIN FETCH i.advance " +
+           "WHERE i.employeeId = :employeeId " +
+           "AND (i.dueYear * 100 + i.dueMonth) BETWEEN :fromPeriod AND :toPeriod " +
+           "ORDER BY i.dueYear, i.dueMonth, i.advanceId")
+    List<AdvanceInstallment> findDueByEmployeeIdAndPeriodRange(
+            @Param("employeeId") Long employeeId,
+            @Param("fromPeriod") Integer fromPeriod,
+            @Param("toPeriod") Integer toPeriod
+    );
+
+    @Query("SELECT COALESCE(SUM(i.amount), 0) FROM AdvanceInstallment i " +
+           "WHERE i.employeeId = :employeeId AND i.dueYear = :year AND i.dueMonth = :month")
+    BigDecimal sumDueAmountByEmployeeIdAndMonthAndYear(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT i.employeeId, SUM(i.amount) FROM AdvanceInstallment i " +
+           "WHERE i.dueYear = :year AND i.dueMonth = :month " +
+           "GROUP BY i.employeeId")
+    List<Object[]> sumDueAmountGroupedByEmployee(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+}
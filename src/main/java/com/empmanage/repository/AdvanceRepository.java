@@ -20,6 +20,8 @@ public interface AdvanceRepository extends JpaRepository<Advance, Long> {
             @Param("month") Integer month,
             @Param("year") Integer year
     );
-}
-
 
+    @Query("SELECT a FROM Advance a WHERE a.employee.id = :employeeId AND a.outstandingAmount > 0 " +
+           "ORDER BY a.advanceDate")
+    List<Advance> findOutstandingByEmployeeId(@Param("employeeId") Long employeeId);
+}
@@ -0,0 +1,50 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.Attendance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+    Optional<Attendance> findByEmployeeIdAndMonthAndYear(Long employeeId, Integer month, Integer year);
+
+    List<Attendance> findByEmployeeIdOrderByYearDescMonthDesc(Long employeeId);
+
+    /** Months given as {@code year * 100 + month}, both ends inclusive. */
+    @Query("SELECT a FROM Attendance a WHERE a.employeeId = :employeeId " +
+           "AND a.year * 100 + a.month BETWEEN :fromPeriod AND :toPeriod")
+    List<Attendance> findByEmployeeIdAndPeriodRange(
+            @Param("employeeId") Long employeeId,
+            @Param("fromPeriod") Integer fromPeriod,
+            @Param("toPeriod") Integer toPeriod
+    );
+
+    /**
+     * Marks one day for a whole crew in a single statement: creates the month row where
+     * missing, otherwise clears the day's bit in all three bitmaps and sets it in the
+     * one for the new status (exactly one of the status bits equals {@code dayBit}).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attendances (employee_id, month, year, present_bits, half_day_bits, absent_bits) " +
+           "SELECT e.id, :month, :year, :presentBit, :halfDayBit, :absentBit FROM employees e WHERE e.id IN (:employeeIds) " +
+           "ON DUPLICATE KEY UPDATE " +
+           "present_bits = (present_bits & ~:dayBit) | :presentBit, " +
+           "half_day_bits = (half_day_bits & ~:dayBit) | :halfDayBit, " +
+           "absent_bits = (absent_bits & ~:dayBit) | :absentBit",
+           nativeQuery = true)
+    int markDay(
+            @Param("employeeIds") List<Long> employeeIds,
+            @Param("month") Integer month,
+            @Param("year") Integer year,
+            @Param("dayBit") int dayBit,
+            @Param("presentBit") int presentBit,
+            @Param("halfDayBit") int halfDayBit,
+            @Param("absentBit") int absentBit
+    );
+}
@@ -0,0 +1,12 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.EmployeeBulkChangeItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmployeeBulkChangeItemRepository extends JpaRepository<EmployeeBulkChangeItem, Long> {
+    List<EmployeeBulkChangeItem> findByChangeIdOrderByEmployeeId(Long changeId);
+}
@@ -0,0 +1,12 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.EmployeeBulkChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmployeeBulkChangeRepository extends JpaRepository<EmployeeBulkChange, Long> {
+    List<EmployeeBulkChange> findAllByOrderByAppliedAtDesc();
+}
@@ -0,0 +1,15 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.EmployeeCompensation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EmployeeCompensationRepository extends JpaRepository<EmployeeCompensation, Long> {
+    List<EmployeeCompensation> findByEmployeeIdOrderByEffectiveFromAsc(Long employeeId);
+    List<EmployeeCompensation> findByEmployeeIdAndEffectiveFromGreaterThanEqualOrderByEffectiveFromAsc(
+            Long employeeId, LocalDate effectiveFrom);
+}
@@ -0,0 +1,37 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.EmployeeMonthLedger;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EmployeeMonthLedgerRepository extends JpaRepository<EmployeeMonthLedger, Long> {
+    Optional<EmployeeMonthLedger> findByEmployeeIdAndMonthAndYear(Long employeeId, Integer month, Integer year);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM EmployeeMonthLedger l WHERE l.employeeId = :employeeId " +
+           "AND l.month = :month AND l.year = :year")
+    Optional<EmployeeMonthLedger> findForUpdate(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    List<EmployeeMonthLedger> findByMonthAndYear(Integer month, Integer year);
+
+    @Query(value = "SELECT employee_id FROM employee_month_ledger WHERE month = :month AND year = :year " +
+           "AND employee_id IN (:employeeIds) FOR UPDATE", nativeQuery = true)
+    List<Long> lockExistingEmployeeIds(
+            @Param("employeeIds") Collection<Long> employeeIds,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+}
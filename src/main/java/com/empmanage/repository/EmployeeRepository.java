@@ -1,17 +1,75 @@
 package com.empmanage.repository;
 
 import com.empmanage.entity.Employee;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     Optional<Employee> findByMobile(String mobile);
     List<Employee> findByActiveTrue();
     boolean existsByMobile(String mobile);
+    long countByActiveTrue();
+    List<Employee> findByActiveTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.active = true AND NOT EXISTS " +
+           "(SELECT s.id FROM Salary s WHERE s.employee = e AND s.month = :month AND s.year = :year)")
+    long countActiveWithoutSalaryForMonth(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    /**
+     * Every overtime, advance, leave and food row of an employee's month plus the month's
+     * attendance row in one round-trip, date-ordered, with per-type totals computed by
+     * window functions. quantity is hours for overtime, 1 for an unpaid and 0 for a paid
+     * leave and meals for food. The attendance row carries its day bitmaps instead, which
+     * the caller counts, so the query runs on H2 as well as MySQL.
+     */
+    @Query(value = "SELECT t.type AS type, t.id AS id, t.entry_date AS entryDate, t.amount AS amount, " +
+           "t.quantity AS quantity, t.rate AS rate, t.subtype AS subtype, t.description AS description, " +
+           "COUNT(*) OVER (PARTITION BY t.type) AS typeCount, " +
+           "SUM(t.amount) OVER (PARTITION BY t.type) AS typeAmount, " +
+           "SUM(t.quantity) OVER (PARTITION BY t.type) AS typeQuantity, " +
+           "t.present_bits AS presentBits, t.half_day_bits AS halfDayBits, t.absent_bits AS absentBits " +
+           "FROM (" +
+           "SELECT 'OVERTIME' AS type, o.id AS id, o.overtime_date AS entry_date, o.total_amount AS amount, " +
+           "o.hours AS quantity, o.rate_per_hour AS rate, NULL AS subtype, NULL AS description, " +
+           "NULL AS present_bits, NULL AS half_day_bits, NULL AS absent_bits " +
+           "FROM overtimes o WHERE o.employee_id = :employeeId AND o.overtime_date BETWEEN :fromDate AND :toDate " +
+           "UNION ALL " +
+           "SELECT 'ADVANCE', a.id, a.advance_date, a.amount, NULL, NULL, NULL, a.description, NULL, NULL, NULL " +
+           "FROM advances a WHERE a.employee_id = :employeeId AND a.advance_date BETWEEN :fromDate AND :toDate " +
+           "UNION ALL " +
+           "SELECT 'LEAVE', l.id, l.leave_date, NULL, CASE WHEN l.leave_type = 'UNPAID' THEN 1 ELSE 0 END, NULL, " +
+           "l.leave_type, l.description, NULL, NULL, NULL " +
+           "FROM leaves l WHERE l.employee_id = :employeeId AND l.leave_date BETWEEN :fromDate AND :toDate " +
+           "UNION ALL " +
+           "SELECT 'FOOD', f.id, f.expense_date, f.amount, f.meals, f.price_per_meal, NULL, f.description, " +
+           "NULL, NULL, NULL " +
+           "FROM food_expenses f WHERE f.employee_id = :employeeId AND f.expense_date BETWEEN :fromDate AND :toDate " +
+           "UNION ALL " +
+           "SELECT 'ATTENDANCE', at.id, :fromDate, NULL, NULL, NULL, NULL, NULL, " +
+           "at.present_bits, at.half_day_bits, at.absent_bits " +
+           "FROM attendances at WHERE at.employee_id = :employeeId AND at.month = MONTH(:fromDate) AND at.year = YEAR(:fromDate)" +
+           ") t ORDER BY t.entry_date, t.type, t.id",
+           nativeQuery = true)
+    List<MonthlyTransactionRow> findMonthlyTransactions(
+            @Param("employeeId") Long employeeId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
 }
 
 
@@ -0,0 +1,50 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.FoodExpense;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface FoodExpenseRepository extends JpaRepository<FoodExpense, Long> {
+    List<FoodExpense> findByEmployeeId(Long employeeId);
+
+    @Query("SELECT f FROM FoodExpense f WHERE f.employee.id = :employeeId " +
+           "AND MONTH(f.expenseDate) = :month AND YEAR(f.expenseDate) = :year " +
+           "ORDER BY f.expenseDate")
+    List<FoodExpense> findByEmployeeIdAndMonthAndYear(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT COALESCE(SUM(f.amount), 0) FROM FoodExpense f WHERE f.employee.id = :employeeId " +
+           "AND MONTH(f.expenseDate) = :month AND YEAR(f.expenseDate) = :year")
+    BigDecimal sumAmountByEmployeeIdAndMonthAndYear(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT f.employee.id, SUM(f.amount) FROM FoodExpense f " +
+           "WHERE MONTH(f.expenseDate) = :month AND YEAR(f.expenseDate) = :year " +
+           "GROUP BY f.employee.id")
+    List<Object[]> sumAmountGroupedByEmployee(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT YEAR(f.expenseDate), MONTH(f.expenseDate), SUM(f.amount) FROM FoodExpense f " +
+           "WHERE f.employee.id = :employeeId AND f.expenseDate BETWEEN :fromDate AND :toDate " +
+           "GROUP BY YEAR(f.expenseDate), MONTH(f.expenseDate)")
+    List<Object[]> sumAmountByEmployeeIdGroupedByMonth(
+            @Param("employeeId") Long employeeId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+}
@@ -0,0 +1,14 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.Holiday;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HolidayRepository extends JpaRepository<Holiday, Long> {
+    List<Holiday> findByHolidayDateBetweenOrderByHolidayDate(LocalDate fromDate, LocalDate toDate);
+    boolean existsByHolidayDate(LocalDate holidayDate);
+}
@@ -0,0 +1,47 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, Long> {
+    boolean existsByJobNameAndLeaseKeyAndExpiresAtAfter(String jobName, String leaseKey, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.acquiredAt = :now, l.heartbeatAt = :now, " +
+           "l.expiresAt = :expiresAt " +
+           "WHERE l.jobName = :jobName AND l.leaseKey = :leaseKey " +
+           "AND l.expiresAt < :now")
+    int takeOverExpired(
+            @Param("jobName") String jobName,
+            @Param("leaseKey") String leaseKey,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying
+    @Query("UPDATE JobLease l SET l.heartbeatAt = :now, l.expiresAt = :expiresAt " +
+           "WHERE l.jobName = :jobName AND l.leaseKey = :leaseKey AND l.owner = :owner")
+    int renew(
+            @Param("jobName") String jobName,
+            @Param("leaseKey") String leaseKey,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM JobLease l WHERE l.jobName = :jobName AND l.leaseKey = :leaseKey AND l.owner = :owner")
+    int release(
+            @Param("jobName") String jobName,
+            @Param("leaseKey") String leaseKey,
+            @Param("owner") String owner
+    );
+}
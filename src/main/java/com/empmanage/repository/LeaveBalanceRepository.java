@@ -0,0 +1,23 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.LeaveBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+    Optional<LeaveBalance> findByEmployeeIdAndYear(Long employeeId, Integer year);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM LeaveBalance b WHERE b.employeeId = :employeeId AND b.year = :year")
+    Optional<LeaveBalance> findForUpdate(
+            @Param("employeeId") Long employeeId,
+            @Param("year") Integer year
+    );
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -30,6 +31,47 @@ public interface LeaveRepository extends JpaRepository<Leave, Long> {
             @Param("month") Integer month,
             @Param("year") Integer year
     );
-}
 
+    @Query("SELECT l.leaveDate FROM Leave l WHERE l.employee.id = :employeeId " +
+           "AND MONTH(l.leaveDate) = :month AND YEAR(l.leaveDate) = :year " +
+           "AND l.leaveType = 'UNPAID'")
+    List<LocalDate> findUnpaidLeaveDatesByEmployeeIdAndMonthAndYear(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT l.employee.id, l.leaveDate FROM Leave l " +
+           "WHERE MONTH(l.leaveDate) = :month AND YEAR(l.leaveDate) = :year " +
+           "AND l.leaveType = 'UNPAID'")
+    List<Object[]> findUnpaidLeaveDatesByMonthAndYear(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT COUNT(l) FROM Leave l WHERE l.employee.id = :employeeId " +
+           "AND l.leaveDate = :leaveDate AND l.leaveType = 'UNPAID'")
+    long countUnpaidLeavesByEmployeeIdAndLeaveDate(
+            @Param("employeeId") Long employeeId,
+            @Param("leaveDate") LocalDate leaveDate
+    );
+
+    @Query("SELECT l.leaveType, COUNT(l) FROM Leave l WHERE l.employee.id = :employeeId " +
+           "AND l.leaveDate BETWEEN :fromDate AND :toDate " +
+           "GROUP BY l.leaveType")
+    List<Object[]> countByEmployeeIdAndDateRangeGroupedByType(
+            @Param("employeeId") Long employeeId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
 
+    @Query("SELECT l FROM Leave l WHERE l.employee.id = :employeeId " +
+           "AND l.leaveDate BETWEEN :fromDate AND :toDate " +
+           "AND l.leaveType = 'UNPAID' " +
+           "ORDER BY l.leaveDate")
+    List<Leave> findUnpaidLeavesByEmployeeIdAndDateRange(
+            @Param("employeeId") Long employeeId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+}
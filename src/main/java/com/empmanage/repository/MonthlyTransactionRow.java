@@ -0,0 +1,26 @@
+package com.empmanage.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of {@link EmployeeRepository#findMonthlyTransactions}. The {@code type*}
+ * columns repeat the month total of the row's type on every row of that type. The
+ * {@code *Bits} columns are only set on the attendance row.
+ */
+public interface MonthlyTransactionRow {
+    String getType();
+    Long getId();
+    LocalDate getEntryDate();
+    BigDecimal getAmount();
+    BigDecimal getQuantity();
+    BigDecimal getRate();
+    String getSubtype();
+    String getDescription();
+    Long getTypeCount();
+    BigDecimal getTypeAmount();
+    BigDecimal getTypeQuantity();
+    Integer getPresentBits();
+    Integer getHalfDayBits();
+    Integer getAbsentBits();
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -20,6 +22,29 @@ public interface OvertimeRepository extends JpaRepository<Overtime, Long> {
             @Param("month") Integer month,
             @Param("year") Integer year
     );
-}
 
+    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Overtime o WHERE o.employee.id = :employeeId " +
+           "AND MONTH(o.overtimeDate) = :month AND YEAR(o.overtimeDate) = :year")
+    BigDecimal sumTotalAmountByEmployeeIdAndMonthAndYear(
+            @Param("employeeId") Long employeeId,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+
+    @Query("SELECT o.employee.id, SUM(o.totalAmount) FROM Overtime o " +
+           "WHERE MONTH(o.overtimeDate) = :month AND YEAR(o.overtimeDate) = :year " +
+           "GROUP BY o.employee.id")
+    List<Object[]> sumTotalAmountGroupedByEmployee(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
 
+    @Query("SELECT o FROM Overtime o WHERE o.employee.id = :employeeId " +
+           "AND o.overtimeDate BETWEEN :fromDate AND :toDate " +
+           "ORDER BY o.overtimeDate")
+    List<Overtime> findByEmployeeIdAndDateRange(
+            @Param("employeeId") Long employeeId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+}
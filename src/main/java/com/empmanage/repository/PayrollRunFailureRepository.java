@@ -0,0 +1,20 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.PayrollRunFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PayrollRunFailureRepository extends JpaRepository<PayrollRunFailure, Long> {
+    List<PayrollRunFailure> findByRunIdOrderByEmployeeId(Long runId);
+
+    @Modifying
+    @Query("DELETE FROM PayrollRunFailure f WHERE f.runId = :runId AND f.employeeId IN :employeeIds")
+    int deleteByRunIdAndEmployeeIdIn(@Param("runId") Long runId, @Param("employeeIds") Collection<Long> employeeIds);
+}
@@ -0,0 +1,15 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.PayrollRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+    Optional<PayrollRun> findByMonthAndYear(Integer month, Integer year);
+    List<PayrollRun> findByStatus(PayrollRun.RunStatus status);
+    List<PayrollRun> findAllByOrderByYearDescMonthDesc();
+}
@@ -0,0 +1,28 @@
+package com.empmanage.repository;
+
+import com.empmanage.entity.Payslip;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PayslipRepository extends JpaRepository<Payslip, Long> {
+    List<Payslip> findByEmployeeIdOrderByYearDescMonthDesc(Long employeeId);
+
+    // A locking read sees a payslip committed after this transaction's snapshot
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payslip p WHERE p.salaryId = :salaryId")
+    Optional<Payslip> findForUpdate(@Param("salaryId") Long salaryId);
+
+    @Query("SELECT p.salaryId FROM Payslip p WHERE p.month = :month AND p.year = :year")
+    List<Long> findSalaryIdsByMonthAndYear(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+}
@@ -9,6 +9,8 @@ import java.util.List;
 @Repository
 public interface SalaryDetailRepository extends JpaRepository<SalaryDetail, Long> {
     List<SalaryDetail> findBySalaryId(Long salaryId);
+
+    List<SalaryDetail> findBySalaryIdIn(List<Long> salaryIds);
 }
 
 
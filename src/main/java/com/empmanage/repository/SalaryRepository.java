@@ -13,12 +13,28 @@ import java.util.Optional;
 public interface SalaryRepository extends JpaRepository<Salary, Long> {
     List<Salary> findByEmployeeIdOrderByYearDescMonthDesc(Long employeeId);
     
+    List<Salary> findByMonthAndYearAndSmsSentFalse(Integer month, Integer year);
+
+    @Query("SELECT s FROM Salary s JOIN FETCH s.employee WHERE s.month = :month AND s.year = :year")
+    List<Salary> findByMonthAndYear(
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+    
     Optional<Salary> findByEmployeeIdAndMonthAndYear(
             Long employeeId, 
             Integer month, 
             Integer year
     );
     
+    @Query("SELECT s.employee.id FROM Salary s WHERE s.employee.id IN :employeeIds " +
+           "AND s.month = :month AND s.year = :year")
+    List<Long> findEmployeeIdsWithSalaryForMonth(
+            @Param("employeeIds") List<Long> employeeIds,
+            @Param("month") Integer month,
+            @Param("year") Integer year
+    );
+    
     @Query("SELECT SUM(s.finalSalary) FROM Salary s WHERE s.month = :month AND s.year = :year")
     java.math.BigDecimal getTotalSalaryForMonth(
             @Param("month") Integer month,
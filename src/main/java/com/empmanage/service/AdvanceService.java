@@ -2,21 +2,77 @@ package com.empmanage.service;
 
 import com.empmanage.dto.request.AdvanceRequest;
 import com.empmanage.entity.Advance;
+import com.empmanage.entity.AdvanceInstallment;
 import com.empmanage.entity.Employee;
+import com.empmanage.repository.AdvanceInstallmentRepository;
 import com.empmanage.repository.AdvanceRepository;
 import com.empmanage.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Advances are repaid in monthly installments, the first due in the month the advance
+ * is given. Months whose salary is already generated are skipped, so a back-dated
+ * advance starts in the next open month. The schedule is written with the advance; the
+ * month ledger carries the installments due per month and the advance its outstanding
+ * amount, which salary generation reduces as it deducts installments.
+ */
 @Service
 @RequiredArgsConstructor
 public class AdvanceService {
 
+    private static final Logger log = LoggerFactory.getLogger(AdvanceService.class);
+
+    // Locking read: also blocks a concurrent insert of that month's salary until commit
+    private static final String SALARY_IN_MONTH_SQL =
+            "SELECT id FROM salaries WHERE employee_id = ? AND month = ? AND year = ? FOR UPDATE";
+
+    // Runs before the installments are inserted, so it selects the same advances
+    private static final String BACKFILL_OUTSTANDING_SQL = "UPDATE advances SET installments = 1, " +
+            "outstanding_amount = CASE WHEN EXISTS (SELECT 1 FROM salaries s WHERE s.employee_id = advances.employee_id " +
+            "AND s.month = MONTH(advances.advance_date) AND s.year = YEAR(advances.advance_date)) THEN 0 ELSE amount END " +
+            "WHERE NOT EXISTS (SELECT 1 FROM advance_installments i WHERE i.advance_id = advances.id)";
+
+    // Every node runs this at startup; an installment another node inserted first is kept
+    private static final String BACKFILL_INSTALLMENTS_SQL = "INSERT INTO advance_installments " +
+            "(advance_id, employee_id, installment_number, due_month, due_year, amount, salary_id) " +
+            "SELECT a.id, a.employee_id, 1, MONTH(a.advance_date), YEAR(a.advance_date), a.amount, " +
+            "(SELECT s.id FROM salaries s WHERE s.employee_id = a.employee_id " +
+            "AND s.month = MONTH(a.advance_date) AND s.year = YEAR(a.advance_date)) " +
+            "FROM advances a WHERE NOT EXISTS (SELECT 1 FROM advance_installments i WHERE i.advance_id = a.id) " +
+            "ON DUPLICATE KEY UPDATE advance_id = advance_id";
+
     private final AdvanceRepository advanceRepository;
+    private final AdvanceInstallmentRepository installmentRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeMonthLedgerService ledgerService;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Gives advances recorded before installments existed a single installment due in
+     * their own month, marked repaid when that month's salary was already generated.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillInstallments() {
+        jdbcTemplate.update(BACKFILL_OUTSTANDING_SQL);
+        int created = jdbcTemplate.update(BACKFILL_INSTALLMENTS_SQL);
+        if (created > 0) {
+            log.info("Scheduled {} existing advances as single installments", created);
+        }
+    }
 
     @Transactional
     public Advance createAdvance(AdvanceRequest request) {
@@ -28,8 +84,25 @@ public class AdvanceService {
         advance.setAmount(request.getAmount());
         advance.setAdvanceDate(request.getAdvanceDate());
         advance.setDescription(request.getDescription());
+        advance.setInstallments(request.getInstallments() != null ? request.getInstallments() : 1);
+        advance.setOutstandingAmount(request.getAmount());
+        Advance saved = advanceRepository.save(advance);
+
+        List<YearMonth> dueMonths = new ArrayList<>(saved.getInstallments());
+        YearMonth due = YearMonth.from(saved.getAdvanceDate());
+        for (int n = 0; n < saved.getInstallments(); n++) {
+            due = firstOpenMonth(employee.getId(), due);
+            dueMonths.add(due);
+            due = due.plusMonths(1);
+        }
 
-        return advanceRepository.save(advance);
+        List<AdvanceInstallment> schedule = schedule(saved, dueMonths);
+        // The ledger is updated before the installments exist, see EmployeeMonthLedgerService
+        for (AdvanceInstallment installment : schedule) {
+            ledgerService.applyAdvance(employee.getId(), dueMonth(installment).atDay(1), installment.getAmount());
+        }
+        installmentRepository.saveAll(schedule);
+        return saved;
     }
 
     public List<Advance> getAdvancesByEmployeeId(Long employeeId) {
@@ -40,13 +113,68 @@ public class AdvanceService {
         return advanceRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year);
     }
 
+    public List<Advance> getOutstandingAdvances(Long employeeId) {
+        return advanceRepository.findOutstandingByEmployeeId(employeeId);
+    }
+
+    public List<AdvanceInstallment> getInstallments(Long advanceId) {
+        return installmentRepository.findByAdvanceIdOrderByInstallmentNumber(advanceId);
+    }
+
+    /**
+     * Deletes an advance and its schedule. Once a salary has deducted one of its
+     * installments the advance is part of payroll history and cannot be deleted.
+     */
     @Transactional
     public void deleteAdvance(Long id) {
-        if (!advanceRepository.existsById(id)) {
-            throw new IllegalArgumentException("Advance not found with id: " + id);
+        Advance advance = advanceRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Advance not found with id: " + id));
+        List<AdvanceInstallment> installments = installmentRepository.findByAdvanceIdOrderByInstallmentNumber(id);
+        if (installments.stream().anyMatch(installment -> installment.getSalaryId() != null)) {
+            throw new IllegalArgumentException("Advance " + id + " has installments deducted from a salary and cannot be deleted");
         }
-        advanceRepository.deleteById(id);
+        for (AdvanceInstallment installment : installments) {
+            ledgerService.applyAdvance(advance.getEmployee().getId(), dueMonth(installment).atDay(1),
+                    installment.getAmount().negate());
+        }
+        installmentRepository.deleteAllInBatch(installments);
+        advanceRepository.delete(advance);
+    }
+
+    /** The first month from {@code month} on without a generated salary for the employee. */
+    private YearMonth firstOpenMonth(Long employeeId, YearMonth month) {
+        while (!jdbcTemplate.queryForList(SALARY_IN_MONTH_SQL, Long.class,
+                employeeId, month.getMonthValue(), month.getYear()).isEmpty()) {
+            month = month.plusMonths(1);
+        }
+        return month;
     }
-}
 
+    /**
+     * Equal monthly installments rounded down to the paisa; the last one takes the
+     * remainder so the schedule adds up to the advance.
+     */
+    private static List<AdvanceInstallment> schedule(Advance advance, List<YearMonth> dueMonths) {
+        int count = advance.getInstallments();
+        BigDecimal each = advance.getAmount().divide(BigDecimal.valueOf(count), 2, RoundingMode.DOWN);
+        List<AdvanceInstallment> schedule = new ArrayList<>(count);
+        for (int n = 1; n <= count; n++) {
+            YearMonth due = dueMonths.get(n - 1);
+            AdvanceInstallment installment = new AdvanceInstallment();
+            installment.setAdvanceId(advance.getId());
+            installment.setEmployeeId(advance.getEmployee().getId());
+            installment.setInstallmentNumber(n);
+            installment.setDueMonth(due.getMonthValue());
+            installment.setDueYear(due.getYear());
+            installment.setAmount(n < count
+                    ? each
+                    : advance.getAmount().subtract(each.multiply(BigDecimal.valueOf(count - 1))));
+            schedule.add(installment);
+        }
+        return schedule;
+    }
 
+    private static YearMonth dueMonth(AdvanceInstallment installment) {
+        return YearMonth.of(installment.getDueYear(), installment.getDueMonth());
+    }
+}
@@ -0,0 +1,140 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.request.AttendanceRequest;
+import com.empmanage.dto.request.BulkAttendanceRequest;
+import com.empmanage.dto.response.AttendanceResponse;
+import com.empmanage.entity.Attendance;
+import com.empmanage.repository.AttendanceRepository;
+import com.empmanage.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceService {
+
+    private final AttendanceRepository attendanceRepository;
+    private final EmployeeRepository employeeRepository;
+    private final WorkCalendarService workCalendarService;
+
+    @Transactional
+    public AttendanceResponse createOrUpdateAttendance(AttendanceRequest request) {
+        if (!employeeRepository.existsById(request.getEmployeeId())) {
+            throw new IllegalArgumentException("Employee not found with id: " + request.getEmployeeId());
+        }
+        YearMonth yearMonth = YearMonth.of(request.getYear(), request.getMonth());
+        int daysInMonth = yearMonth.lengthOfMonth();
+        int monthBits = (1 << daysInMonth) - 1;
+
+        int present;
+        int halfDay;
+        int absent;
+        if (request.getPresentDays() != null || request.getHalfDays() != null || request.getAbsentDays() != null) {
+            present = toBits(request.getPresentDays(), daysInMonth);
+            halfDay = toBits(request.getHalfDays(), daysInMonth);
+            absent = toBits(request.getAbsentDays(), daysInMonth);
+            if ((present & halfDay) != 0 || (present & absent) != 0 || (halfDay & absent) != 0) {
+                throw new IllegalArgumentException("A day can only have one attendance status");
+            }
+        } else if (request.getDaysWorked() != null) {
+            if (request.getDaysWorked() > daysInMonth) {
+                throw new IllegalArgumentException("Days worked cannot exceed " + daysInMonth + " for this month");
+            }
+            // Days worked fill the working days first; weekly offs and holidays are never absences
+            int workingBits = workCalendarService.month(yearMonth).workingBits();
+            present = lowestDays(workingBits, request.getDaysWorked());
+            present |= lowestDays(monthBits & ~workingBits, request.getDaysWorked() - Integer.bitCount(present));
+            halfDay = 0;
+            absent = workingBits & ~present;
+        } else {
+            throw new IllegalArgumentException("Either days worked or the attendance days are required");
+        }
+
+        Attendance attendance = attendanceRepository
+                .findByEmployeeIdAndMonthAndYear(request.getEmployeeId(), request.getMonth(), request.getYear())
+                .orElseGet(() -> new Attendance(request.getEmployeeId(), request.getMonth(), request.getYear()));
+        attendance.setPresentBits(present);
+        attendance.setHalfDayBits(halfDay);
+        attendance.setAbsentBits(absent);
+        return mapToResponse(attendanceRepository.save(attendance));
+    }
+
+    /**
+     * Marks one date for all given employees with a single upsert statement.
+     * Unknown employee IDs are ignored. Returns the number of employees in the request.
+     */
+    @Transactional
+    public int markDay(BulkAttendanceRequest request) {
+        int dayBit = Attendance.dayBit(request.getDate().getDayOfMonth());
+        List<Long> employeeIds = request.getEmployeeIds().stream().distinct().collect(Collectors.toList());
+        attendanceRepository.markDay(employeeIds,
+                request.getDate().getMonthValue(), request.getDate().getYear(), dayBit,
+                request.getStatus() == Attendance.Status.PRESENT ? dayBit : 0,
+                request.getStatus() == Attendance.Status.HALF_DAY ? dayBit : 0,
+                request.getStatus() == Attendance.Status.ABSENT ? dayBit : 0);
+        return employeeIds.size();
+    }
+
+    public List<AttendanceResponse> getAttendanceByEmployee(Long employeeId) {
+        return attendanceRepository.findByEmployeeIdOrderByYearDescMonthDesc(employeeId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    public AttendanceResponse getAttendanceByEmployeeAndMonth(Long employeeId, Integer month, Integer year) {
+        return attendanceRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year)
+                .map(this::mapToResponse)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No attendance for employee " + employeeId + " for " + month + "/" + year));
+    }
+
+    @Transactional
+    public void deleteAttendance(Long id) {
+        Attendance attendance = attendanceRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Attendance not found with id: " + id));
+        attendanceRepository.delete(attendance);
+    }
+
+    /** The first {@code count} days of {@code bits}. */
+    private static int lowestDays(int bits, int count) {
+        int days = 0;
+        for (int remaining = bits; remaining != 0 && Integer.bitCount(days) < count; remaining &= remaining - 1) {
+            days |= Integer.lowestOneBit(remaining);
+        }
+        return days;
+    }
+
+    private int toBits(List<Integer> days, int daysInMonth) {
+        int bits = 0;
+        if (days == null) {
+            return bits;
+        }
+        for (Integer day : days) {
+            if (day == null || day < 1 || day > daysInMonth) {
+                throw new IllegalArgumentException("Invalid day of month: " + day);
+            }
+            bits |= Attendance.dayBit(day);
+        }
+        return bits;
+    }
+
+    private AttendanceResponse mapToResponse(Attendance attendance) {
+        AttendanceResponse response = new AttendanceResponse();
+        response.setId(attendance.getId());
+        response.setEmployeeId(attendance.getEmployeeId());
+        response.setMonth(attendance.getMonth());
+        response.setYear(attendance.getYear());
+        response.setDaysInMonth(YearMonth.of(attendance.getYear(), attendance.getMonth()).lengthOfMonth());
+        response.setDaysWorked(attendance.daysWorked());
+        response.setUnpaidAbsenceDays(attendance.unpaidAbsenceDays());
+        response.setPresentDays(Attendance.days(attendance.getPresentBits()));
+        response.setHalfDays(Attendance.days(attendance.getHalfDayBits()));
+        response.setAbsentDays(Attendance.days(attendance.getAbsentBits()));
+        return response;
+    }
+}
@@ -0,0 +1,72 @@
+package com.empmanage.service;
+
+import com.empmanage.entity.Employee;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory compensation history: per employee, a {@link NavigableMap} from the date a
+ * rate takes effect to the rate. Built from one query, it answers "what was this
+ * employee paid in that month" without going back to the database.
+ */
+public final class CompensationIndex {
+
+    public record Rate(BigDecimal baseSalary, BigDecimal pfAmount) {
+    }
+
+    /** Rate for a whole month; {@code prorated} when it changed during the month. */
+    public record MonthRate(BigDecimal baseSalary, BigDecimal pfAmount, boolean prorated) {
+    }
+
+    private final Map<Long, NavigableMap<LocalDate, Rate>> byEmployee = new HashMap<>();
+
+    /** Rows must be added in effective-date order per employee, as the loaders do. */
+    void add(Long employeeId, LocalDate effectiveFrom, BigDecimal baseSalary, BigDecimal pfAmount) {
+        byEmployee.computeIfAbsent(employeeId, id -> new TreeMap<>())
+                .put(effectiveFrom, new Rate(baseSalary, pfAmount));
+    }
+
+    /**
+     * The employee's base salary and PF for the month. When the rate changed during the
+     * month, both are pro-rated by the calendar days each rate was in force. Employees
+     * without history fall back to the amounts on the employee row.
+     */
+    public MonthRate rateFor(Employee employee, YearMonth month) {
+        NavigableMap<LocalDate, Rate> history = byEmployee.get(employee.getId());
+        if (history == null || history.isEmpty()) {
+            return new MonthRate(employee.getBaseSalary(), employee.getPfAmount(), false);
+        }
+        LocalDate first = month.atDay(1);
+        Map.Entry<LocalDate, Rate> opening = history.floorEntry(first);
+        Rate current = opening != null ? opening.getValue() : history.firstEntry().getValue();
+        NavigableMap<LocalDate, Rate> changes = history.subMap(first, false, month.atEndOfMonth(), true);
+        if (changes.isEmpty()) {
+            return new MonthRate(current.baseSalary(), current.pfAmount(), false);
+        }
+
+        BigDecimal baseDays = BigDecimal.ZERO;
+        BigDecimal pfDays = BigDecimal.ZERO;
+        int from = 1;
+        for (Map.Entry<LocalDate, Rate> change : changes.entrySet()) {
+            BigDecimal days = BigDecimal.valueOf(change.getKey().getDayOfMonth() - from);
+            baseDays = baseDays.add(current.baseSalary().multiply(days));
+            pfDays = pfDays.add(current.pfAmount().multiply(days));
+            current = change.getValue();
+            from = change.getKey().getDayOfMonth();
+        }
+        BigDecimal days = BigDecimal.valueOf(month.lengthOfMonth() - from + 1);
+        baseDays = baseDays.add(current.baseSalary().multiply(days));
+        pfDays = pfDays.add(current.pfAmount().multiply(days));
+
+        BigDecimal monthDays = BigDecimal.valueOf(month.lengthOfMonth());
+        return new MonthRate(baseDays.divide(monthDays, 2, RoundingMode.HALF_UP),
+                pfDays.divide(monthDays, 2, RoundingMode.HALF_UP), true);
+    }
+}
@@ -0,0 +1,139 @@
+package com.empmanage.service;
+
+import com.empmanage.entity.Employee;
+import com.empmanage.entity.EmployeeCompensation;
+import com.empmanage.repository.EmployeeCompensationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Effective-dated base salary and PF history. Writes keep {@code employee_compensations}
+ * and the amounts on the employee row in step; salary calculation reads the history
+ * through a {@link CompensationIndex}, loaded once per payroll run or once per preview.
+ */
+@Service
+@RequiredArgsConstructor
+public class CompensationService {
+
+    private static final Logger log = LoggerFactory.getLogger(CompensationService.class);
+
+    private static final String INDEX_SQL = "SELECT c.employee_id, c.effective_from, c.base_salary, c.pf_amount " +
+            "FROM employee_compensations c JOIN employees e ON e.id = c.employee_id WHERE e.active = true " +
+            "ORDER BY c.employee_id, c.effective_from";
+
+    // Every node runs this at startup; a baseline another node inserted first is kept
+    private static final String BASELINE_SQL = "INSERT INTO employee_compensations " +
+            "(employee_id, effective_from, base_salary, pf_amount, created_at) " +
+            "SELECT e.id, ?, e.base_salary, e.pf_amount, ? FROM employees e WHERE NOT EXISTS " +
+            "(SELECT 1 FROM employee_compensations c WHERE c.employee_id = e.id) " +
+            "ON DUPLICATE KEY UPDATE employee_id = employee_id";
+
+    private static final String BULK_SQL = "INSERT INTO employee_compensations " +
+            "(employee_id, effective_from, base_salary, pf_amount, created_at) " +
+            "SELECT i.employee_id, ?, i.new_base_salary, i.new_pf_amount, ? FROM employee_bulk_change_items i " +
+            "WHERE i.change_id = ? " +
+            "ON DUPLICATE KEY UPDATE base_salary = VALUES(base_salary), pf_amount = VALUES(pf_amount)";
+
+    private static final String LATER_CHANGES_SQL = "SELECT COUNT(DISTINCT c.employee_id) " +
+            "FROM employee_compensations c JOIN employee_bulk_change_items i ON i.employee_id = c.employee_id " +
+            "WHERE i.change_id = ? AND c.effective_from > ?";
+
+    private final EmployeeCompensationRepository compensationRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Gives employees that predate the history table their baseline row, so every active
+     * employee has at least one entry.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBaselines() {
+        int created = jdbcTemplate.update(BASELINE_SQL, LocalDate.EPOCH, LocalDateTime.now());
+        if (created > 0) {
+            log.info("Recorded baseline compensation for {} employees", created);
+        }
+    }
+
+    /** History of every active employee from one query, for a payroll run. */
+    public CompensationIndex loadIndex() {
+        CompensationIndex index = new CompensationIndex();
+        jdbcTemplate.query(INDEX_SQL, rs -> {
+            index.add(rs.getLong(1), rs.getObject(2, LocalDate.class), rs.getBigDecimal(3), rs.getBigDecimal(4));
+        });
+        return index;
+    }
+
+    public CompensationIndex loadIndex(Long employeeId) {
+        CompensationIndex index = new CompensationIndex();
+        for (EmployeeCompensation row : compensationRepository.findByEmployeeIdOrderByEffectiveFromAsc(employeeId)) {
+            index.add(employeeId, row.getEffectiveFrom(), row.getBaseSalary(), row.getPfAmount());
+        }
+        return index;
+    }
+
+    public List<EmployeeCompensation> getHistory(Long employeeId) {
+        return compensationRepository.findByEmployeeIdOrderByEffectiveFromAsc(employeeId);
+    }
+
+    @Transactional
+    public void recordBaseline(Employee employee) {
+        EmployeeCompensation baseline = new EmployeeCompensation();
+        baseline.setEmployeeId(employee.getId());
+        baseline.setEffectiveFrom(LocalDate.EPOCH);
+        baseline.setBaseSalary(employee.getBaseSalary());
+        baseline.setPfAmount(employee.getPfAmount());
+        compensationRepository.save(baseline);
+    }
+
+    /**
+     * Records a rate taking effect on {@code effectiveFrom}, replacing one recorded for the
+     * same day. A back-dated change leaves later changes in force, so the rate returned,
+     * the one in force today, is the latest row rather than necessarily the new one.
+     */
+    @Transactional
+    public CompensationIndex.Rate recordChange(Long employeeId, LocalDate effectiveFrom,
+                                               BigDecimal baseSalary, BigDecimal pfAmount) {
+        if (effectiveFrom.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Effective date cannot be in the future");
+        }
+        List<EmployeeCompensation> fromDate = compensationRepository
+                .findByEmployeeIdAndEffectiveFromGreaterThanEqualOrderByEffectiveFromAsc(employeeId, effectiveFrom);
+        EmployeeCompensation row = !fromDate.isEmpty() && fromDate.get(0).getEffectiveFrom().equals(effectiveFrom)
+                ? fromDate.get(0)
+                : new EmployeeCompensation();
+        row.setEmployeeId(employeeId);
+        row.setEffectiveFrom(effectiveFrom);
+        row.setBaseSalary(baseSalary);
+        row.setPfAmount(pfAmount);
+        compensationRepository.save(row);
+
+        EmployeeCompensation latest = fromDate.isEmpty() ? row : fromDate.get(fromDate.size() - 1);
+        return new CompensationIndex.Rate(latest.getBaseSalary(), latest.getPfAmount());
+    }
+
+    /**
+     * Records the new rates of a bulk change for all its employees in one statement. The
+     * new rates are computed from today's, so the change is rejected if any of its
+     * employees has a compensation change after {@code effectiveFrom}: that later row
+     * would stay in force and undo the bulk change from its date on.
+     */
+    @Transactional
+    public int recordBulkChange(Long changeId, LocalDate effectiveFrom) {
+        Integer later = jdbcTemplate.queryForObject(LATER_CHANGES_SQL, Integer.class, changeId, effectiveFrom);
+        if (later != null && later > 0) {
+            throw new IllegalArgumentException(later + " of the selected employees have a compensation change after "
+                    + effectiveFrom + "; use a later effective date or update them individually");
+        }
+        return jdbcTemplate.update(BULK_SQL, effectiveFrom, LocalDateTime.now(), changeId);
+    }
+}
@@ -0,0 +1,50 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.DashboardResponse;
+import com.empmanage.repository.EmployeeRepository;
+import com.empmanage.repository.SalaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private final EmployeeRepository employeeRepository;
+    private final SalaryRepository salaryRepository;
+
+    public DashboardResponse getDashboard() {
+        LocalDate now = LocalDate.now();
+        int currentMonth = now.getMonthValue();
+        int currentYear = now.getYear();
+        int lastMonth = currentMonth == 1 ? 12 : currentMonth - 1;
+        int lastMonthYear = currentMonth == 1 ? currentYear - 1 : currentYear;
+
+        long totalEmployees = employeeRepository.count();
+        long activeEmployees = employeeRepository.countByActiveTrue();
+        
+        BigDecimal totalSalaryThisMonth = salaryRepository.getTotalSalaryForMonth(currentMonth, currentYear);
+        if (totalSalaryThisMonth == null) {
+            totalSalaryThisMonth = BigDecimal.ZERO;
+        }
+        
+        BigDecimal totalSalaryLastMonth = salaryRepository.getTotalSalaryForMonth(lastMonth, lastMonthYear);
+        if (totalSalaryLastMonth == null) {
+            totalSalaryLastMonth = BigDecimal.ZERO;
+        }
+
+        // Count employees without salary for current month
+        long pendingSalaryGenerations = employeeRepository.countActiveWithoutSalaryForMonth(currentMonth, currentYear);
+
+        DashboardResponse response = new DashboardResponse();
+        response.setTotalEmployees(totalEmployees);
+        response.setActiveEmployees(activeEmployees);
+        response.setTotalSalaryThisMonth(totalSalaryThisMonth);
+        response.setTotalSalaryLastMonth(totalSalaryLastMonth);
+        response.setPendingSalaryGenerations(pendingSalaryGenerations);
+        return response;
+    }
+}
@@ -0,0 +1,177 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.request.EmployeeBulkUpdateRequest;
+import com.empmanage.dto.response.EmployeeBulkUpdateResponse;
+import com.empmanage.entity.EmployeeBulkChange;
+import com.empmanage.entity.EmployeeBulkChangeItem;
+import com.empmanage.event.LiveUpdate;
+import com.empmanage.exception.ResourceNotFoundException;
+import com.empmanage.repository.EmployeeBulkChangeItemRepository;
+import com.empmanage.repository.EmployeeBulkChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Raises, PF changes and (de)activation for a filtered set of employees. The old and new
+ * values of every matched employee are written to the audit items with one
+ * INSERT ... SELECT, and the employees are then updated from those items with one
+ * UPDATE, so a batch costs the same number of statements for ten employees or ten
+ * thousand. Raises and PF changes are also added to the compensation history as of the
+ * effective date. Listeners hear about the batch once, after it commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeBulkUpdateService {
+
+    private static final String UPDATE_SQL = "UPDATE employees SET " +
+            "base_salary = (SELECT i.new_base_salary FROM employee_bulk_change_items i " +
+            "WHERE i.change_id = ? AND i.employee_id = employees.id), " +
+            "pf_amount = (SELECT i.new_pf_amount FROM employee_bulk_change_items i " +
+            "WHERE i.change_id = ? AND i.employee_id = employees.id), " +
+            "active = (SELECT i.new_active FROM employee_bulk_change_items i " +
+            "WHERE i.change_id = ? AND i.employee_id = employees.id), " +
+            "updated_at = ? " +
+            "WHERE id IN (SELECT i.employee_id FROM employee_bulk_change_items i WHERE i.change_id = ?)";
+
+    private final EmployeeBulkChangeRepository changeRepository;
+    private final EmployeeBulkChangeItemRepository itemRepository;
+    private final CompensationService compensationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher events;
+
+    @Transactional
+    public EmployeeBulkUpdateResponse apply(EmployeeBulkUpdateRequest request) {
+        validate(request);
+
+        EmployeeBulkChange change = new EmployeeBulkChange();
+        change.setRaisePercent(request.getRaisePercent());
+        change.setRaiseAmount(request.getRaiseAmount());
+        change.setPfAmount(request.getPfAmount());
+        change.setActive(request.getActive());
+        change.setMinBaseSalary(request.getMinBaseSalary());
+        change.setMaxBaseSalary(request.getMaxBaseSalary());
+        change.setEffectiveDate(request.getEffectiveDate());
+        change.setReason(request.getReason());
+        change.setAppliedAt(LocalDateTime.now());
+        change = changeRepository.save(change);
+
+        int affected = recordItems(change.getId(), request);
+        if (affected > 0) {
+            // Rejects a back-dated change that a later compensation change would override
+            if (!onlyActivation(request)) {
+                compensationService.recordBulkChange(change.getId(), change.getEffectiveDate());
+            }
+            jdbcTemplate.update(UPDATE_SQL, change.getId(), change.getId(), change.getId(),
+                    change.getAppliedAt(), change.getId());
+        }
+        change.setAffectedEmployees(affected);
+        changeRepository.save(change);
+
+        EmployeeBulkUpdateResponse response = new EmployeeBulkUpdateResponse(change.getId(), affected,
+                change.getEffectiveDate(), change.getAppliedAt());
+        if (affected > 0) {
+            events.publishEvent(new LiveUpdate(LiveUpdate.EMPLOYEE_CHANGED, response));
+        }
+        return response;
+    }
+
+    public List<EmployeeBulkChange> getChanges() {
+        return changeRepository.findAllByOrderByAppliedAtDesc();
+    }
+
+    public List<EmployeeBulkChangeItem> getChangeItems(Long changeId) {
+        if (!changeRepository.existsById(changeId)) {
+            throw new ResourceNotFoundException("Bulk change not found with id: " + changeId);
+        }
+        return itemRepository.findByChangeIdOrderByEmployeeId(changeId);
+    }
+
+    /**
+     * Computes the new values in SQL for every employee matching the filters and stores
+     * them next to the old ones. Returns the number of employees matched.
+     */
+    private int recordItems(Long changeId, EmployeeBulkUpdateRequest request) {
+        List<Object> args = new ArrayList<>();
+        args.add(changeId);
+
+        String newBase = "e.base_salary";
+        if (request.getRaisePercent() != null || request.getRaiseAmount() != null) {
+            BigDecimal percent = request.getRaisePercent() != null ? request.getRaisePercent() : BigDecimal.ZERO;
+            BigDecimal amount = request.getRaiseAmount() != null ? request.getRaiseAmount() : BigDecimal.ZERO;
+            newBase = "GREATEST(ROUND(e.base_salary * ?, 2) + ?, 0)";
+            args.add(BigDecimal.valueOf(100).add(percent).movePointLeft(2));
+            args.add(amount);
+        }
+        String newPf = "e.pf_amount";
+        if (request.getPfAmount() != null) {
+            newPf = "?";
+            args.add(request.getPfAmount());
+        }
+        String newActive = "e.active";
+        if (request.getActive() != null) {
+            newActive = "?";
+            args.add(request.getActive());
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO employee_bulk_change_items " +
+                "(change_id, employee_id, old_base_salary, new_base_salary, old_pf_amount, new_pf_amount, " +
+                "old_active, new_active) SELECT ?, e.id, e.base_salary, ")
+                .append(newBase).append(", e.pf_amount, ").append(newPf)
+                .append(", e.active, ").append(newActive)
+                .append(" FROM employees e WHERE 1 = 1");
+
+        boolean reactivating = Boolean.TRUE.equals(request.getActive());
+        if (!reactivating && !Boolean.TRUE.equals(request.getIncludeInactive())) {
+            sql.append(" AND e.active = true");
+        }
+        if (request.getActive() != null && onlyActivation(request)) {
+            // Employees already in the requested state would be no-op rows in the audit
+            sql.append(" AND e.active <> ?");
+            args.add(request.getActive());
+        }
+        if (request.getEmployeeIds() != null && !request.getEmployeeIds().isEmpty()) {
+            Set<Long> ids = new LinkedHashSet<>(request.getEmployeeIds());
+            sql.append(" AND e.id IN (").append(String.join(", ", Collections.nCopies(ids.size(), "?"))).append(")");
+            args.addAll(ids);
+        }
+        if (request.getMinBaseSalary() != null) {
+            sql.append(" AND e.base_salary >= ?");
+            args.add(request.getMinBaseSalary());
+        }
+        if (request.getMaxBaseSalary() != null) {
+            sql.append(" AND e.base_salary <= ?");
+            args.add(request.getMaxBaseSalary());
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private static boolean onlyActivation(EmployeeBulkUpdateRequest request) {
+        return request.getRaisePercent() == null && request.getRaiseAmount() == null && request.getPfAmount() == null;
+    }
+
+    private static void validate(EmployeeBulkUpdateRequest request) {
+        if (request.getRaisePercent() == null && request.getRaiseAmount() == null
+                && request.getPfAmount() == null && request.getActive() == null) {
+            throw new IllegalArgumentException("Nothing to change: set raisePercent, raiseAmount, pfAmount or active");
+        }
+        if (request.getEffectiveDate().isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("Effective date cannot be in the future; bulk changes apply immediately");
+        }
+        if (request.getMinBaseSalary() != null && request.getMaxBaseSalary() != null
+                && request.getMinBaseSalary().compareTo(request.getMaxBaseSalary()) > 0) {
+            throw new IllegalArgumentException("Minimum base salary cannot be greater than maximum base salary");
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.LedgerReconciliationResponse;
+import com.empmanage.entity.Attendance;
+import com.empmanage.entity.EmployeeMonthLedger;
+import com.empmanage.entity.Leave;
+import com.empmanage.repository.AdvanceInstallmentRepository;
+import com.empmanage.repository.EmployeeMonthLedgerRepository;
+import com.empmanage.repository.FoodExpenseRepository;
+import com.empmanage.repository.LeaveRepository;
+import com.empmanage.repository.OvertimeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Maintains the per-employee monthly totals in {@link EmployeeMonthLedger}.
+ * The apply methods are called from the transaction that writes the source row,
+ * so the ledger and the source tables commit or roll back together.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmployeeMonthLedgerService {
+
+    // Locking reads: under REPEATABLE READ a plain read could miss rows committed while
+    // this transaction waited for the ledger row lock
+    private static final String LEAVES_ON_DAY_SQL =
+            "SELECT leave_type FROM leaves WHERE employee_id = ? AND leave_date = ? FOR UPDATE";
+    private static final String OVERTIMES_ON_DAY_SQL =
+            "SELECT id FROM overtimes WHERE employee_id = ? AND overtime_date = ? FOR UPDATE";
+
+    // A no-op when another transaction created the row first; the caller then locks that row
+    private static final String INSERT_LEDGER_SQL = "INSERT INTO employee_month_ledger " +
+            "(employee_id, month, year, overtime_total, advance_total, unpaid_leave_days, unpaid_leave_bits, food_total) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE employee_id = employee_id";
+
+    private final EmployeeMonthLedgerRepository ledgerRepository;
+    private final OvertimeRepository overtimeRepository;
+    private final AdvanceInstallmentRepository installmentRepository;
+    private final LeaveRepository leaveRepository;
+    private final FoodExpenseRepository foodExpenseRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void applyOvertime(Long employeeId, LocalDate date, BigDecimal delta) {
+        EmployeeMonthLedger ledger = lockLedger(employeeId, date);
+        ledger.setOvertimeTotal(ledger.getOvertimeTotal().add(delta));
+        ledgerRepository.save(ledger);
+    }
+
+    /**
+     * Adds new overtime, rejecting it on a day with an unpaid leave. The unpaid leave days
+     * are read from the locked ledger row, so a leave committed by any node is seen.
+     */
+    @Transactional
+    public void applyNewOvertime(Long employeeId, LocalDate date, BigDecimal amount) {
+        EmployeeMonthLedger ledger = lockLedger(employeeId, date);
+        if ((ledger.getUnpaidLeaveBits() & Attendance.dayBit(date.getDayOfMonth())) != 0) {
+            throw new IllegalArgumentException("Employee " + employeeId + " has an unpaid leave on " + date
+                    + "; overtime cannot be recorded on the same day");
+        }
+        ledger.setOvertimeTotal(ledger.getOvertimeTotal().add(amount));
+        ledgerRepository.save(ledger);
+    }
+
+    /**
+     * Adds a new leave, rejecting a second leave on the same day and an unpaid leave on a
+     * day with overtime. Leave and overtime writes for the employee's month wait on the
+     * ledger row lock, so two conflicting writes cannot both pass the check.
+     */
+    @Transactional
+    public void applyNewLeave(Long employeeId, LocalDate date, Leave.LeaveType type) {
+        EmployeeMonthLedger ledger = lockLedger(employeeId, date);
+        if (!jdbcTemplate.queryForList(LEAVES_ON_DAY_SQL, String.class, employeeId, date).isEmpty()) {
+            throw new IllegalArgumentException("Employee " + employeeId + " already has a leave on " + date);
+        }
+        if (type != Leave.LeaveType.UNPAID) {
+            return;
+        }
+        if (!jdbcTemplate.queryForList(OVERTIMES_ON_DAY_SQL, Long.class, employeeId, date).isEmpty()) {
+            throw new IllegalArgumentException("Employee " + employeeId + " has overtime on " + date
+                    + "; an unpaid leave cannot be recorded on the same day");
+        }
+        ledger.setUnpaidLeaveDays(ledger.getUnpaidLeaveDays() + 1);
+        ledger.setUnpaidLeaveBits(ledger.getUnpaidLeaveBits() | Attendance.dayBit(date.getDayOfMonth()));
+        ledgerRepository.save(ledger);
+    }
+
+    /** Adjusts the advance installments due in the month of {@code date}. */
+    @Transactional
+    public void applyAdvance(Long employeeId, LocalDate date, BigDecimal delta) {
+        EmployeeMonthLedger ledger = lockLedger(employeeId, date);
+        ledger.setAdvanceTotal(ledger.getAdvanceTotal().add(delta));
+        ledgerRepository.save(ledger);
+    }
+
+    /**
+     * Adjusts the unpaid leave count and the day's bit. On removal it must be called while
+     * the leave row still exists: the bit is kept if another unpaid leave is on that day.
+     */
+    @Transactional
+    public void applyUnpaidLeave(Long employeeId, LocalDate date, int delta) {
+        EmployeeMonthLedger ledger = lockLedger(employeeId, date);
+        ledger.setUnpaidLeaveDays(ledger.getUnpaidLeaveDays() + delta);
+        int dayBit = Attendance.dayBit(date.getDayOfMonth());
+        if (delta > 0) {
+            ledger.setUnpaidLeaveBits(ledger.getUnpaidLeaveBits() | dayBit);
+        } else if (leaveRepository.countUnpaidLeavesByEmployeeIdAndLeaveDate(employeeId, date) <= 1) {
+            ledger.setUnpaidLeaveBits(ledger.getUnpaidLeaveBits() & ~dayBit);
+        }
+        ledgerRepository.save(ledger);
+    }
+
+    @Transactional
+    public void applyFood(Long employeeId, LocalDate date, BigDecimal delta) {
+        EmployeeMonthLedger ledger = lockLedger(employeeId, date);
+        ledger.setFoodTotal(ledger.getFoodTotal().add(delta));
+        ledgerRepository.save(ledger);
+    }
+
+    /**
+     * Adds one day's food amounts for many employees. Unlike the single-row apply methods
+     * this runs AFTER the food rows are written: existing ledger rows are locked and
+     * updated in one JDBC batch, and missing rows are rebuilt, which already counts the
+     * new rows.
+     */
+    @Transactional
+    public void applyFoodBatch(LocalDate date, Map<Long, BigDecimal> amounts) {
+        int month = date.getMonthValue();
+        int year = date.getYear();
+        Set<Long> existing = new HashSet<>(ledgerRepository.lockExistingEmployeeIds(amounts.keySet(), month, year));
+
+        List<Object[]> updates = new ArrayList<>(existing.size());
+        for (Map.Entry<Long, BigDecimal> entry : amounts.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                updates.add(new Object[]{entry.getValue(), entry.getKey(), month, year});
+            } else {
+                ledgerRepository.save(rebuild(entry.getKey(), month, year));
+            }
+        }
+        jdbcTemplate.batchUpdate("UPDATE employee_month_ledger SET food_total = food_total + ? " +
+                "WHERE employee_id = ? AND month = ? AND year = ?", updates);
+    }
+
+    /**
+     * Returns the ledger row for the month, or one built from the source rows when the
+     * month has none yet (e.g. for data recorded before the ledger existed). A built row
+     * is not saved, so previews stay read-only; the first write to the month stores it.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeMonthLedger getLedger(Long employeeId, Integer month, Integer year) {
+        return ledgerRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year)
+                .orElseGet(() -> rebuild(employeeId, month, year));
+    }
+
+    /**
+     * Rebuilds the ledger for every employee with activity in the month from the source
+     * rows and reports rows whose stored totals differ. When {@code repair} is set the
+     * stored rows are overwritten with the rebuilt totals.
+     */
+    @Transactional
+    public LedgerReconciliationResponse reconcile(Integer month, Integer year, boolean repair) {
+        Map<Long, EmployeeMonthLedger> actual = new HashMap<>();
+        for (Object[] row : overtimeRepository.sumTotalAmountGroupedByEmployee(month, year)) {
+            actualFor(actual, (Long) row[0], month, year).setOvertimeTotal((BigDecimal) row[1]);
+        }
+        for (Object[] row : installmentRepository.sumDueAmountGroupedByEmployee(month, year)) {
+            actualFor(actual, (Long) row[0], month, year).setAdvanceTotal((BigDecimal) row[1]);
+        }
+        for (Object[] row : leaveRepository.findUnpaidLeaveDatesByMonthAndYear(month, year)) {
+            EmployeeMonthLedger ledger = actualFor(actual, (Long) row[0], month, year);
+            ledger.setUnpaidLeaveDays(ledger.getUnpaidLeaveDays() + 1);
+            ledger.setUnpaidLeaveBits(ledger.getUnpaidLeaveBits() | Attendance.dayBit(((LocalDate) row[1]).getDayOfMonth()));
+        }
+        for (Object[] row : foodExpenseRepository.sumAmountGroupedByEmployee(month, year)) {
+            actualFor(actual, (Long) row[0], month, year).setFoodTotal((BigDecimal) row[1]);
+        }
+
+        Map<Long, EmployeeMonthLedger> stored = new HashMap<>();
+        ledgerRepository.findByMonthAndYear(month, year).forEach(l -> stored.put(l.getEmployeeId(), l));
+
+        Set<Long> employeeIds = new TreeSet<>(actual.keySet());
+        employeeIds.addAll(stored.keySet());
+
+        List<LedgerReconciliationResponse.Mismatch> mismatches = new ArrayList<>();
+        for (Long employeeId : employeeIds) {
+            EmployeeMonthLedger expected = actual.getOrDefault(employeeId, new EmployeeMonthLedger(employeeId, month, year));
+            EmployeeMonthLedger current = stored.get(employeeId);
+            if (current != null && sameTotals(current, expected)) {
+                continue;
+            }
+            if (current == null && !actual.containsKey(employeeId)) {
+                continue;
+            }
+
+            mismatches.add(new LedgerReconciliationResponse.Mismatch(
+                    employeeId,
+                    current != null ? current.getOvertimeTotal() : null,
+                    expected.getOvertimeTotal(),
+                    current != null ? current.getAdvanceTotal() : null,
+                    expected.getAdvanceTotal(),
+                    current != null ? current.getUnpaidLeaveDays() : null,
+                    expected.getUnpaidLeaveDays(),
+                    current != null ? current.getUnpaidLeaveBits() : null,
+                    expected.getUnpaidLeaveBits(),
+                    current != null ? current.getFoodTotal() : null,
+                    expected.getFoodTotal()
+            ));
+
+            if (repair) {
+                EmployeeMonthLedger target = current != null ? current : expected;
+                target.setOvertimeTotal(expected.getOvertimeTotal());
+                target.setAdvanceTotal(expected.getAdvanceTotal());
+                target.setUnpaidLeaveDays(expected.getUnpaidLeaveDays());
+                target.setUnpaidLeaveBits(expected.getUnpaidLeaveBits());
+                target.setFoodTotal(expected.getFoodTotal());
+                ledgerRepository.save(target);
+            }
+        }
+
+        return new LedgerReconciliationResponse(month, year, employeeIds.size(), repair, mismatches);
+    }
+
+    /**
+     * Locks the month's ledger row, creating it from the source rows first if needed. Two
+     * transactions may both find no row; the insert of the second waits on the unique key
+     * and does nothing, and both then lock the one row that was committed.
+     */
+    private EmployeeMonthLedger lockLedger(Long employeeId, LocalDate date) {
+        int month = date.getMonthValue();
+        int year = date.getYear();
+        Optional<EmployeeMonthLedger> existing = ledgerRepository.findForUpdate(employeeId, month, year);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        EmployeeMonthLedger rebuilt = rebuild(employeeId, month, year);
+        jdbcTemplate.update(INSERT_LEDGER_SQL, employeeId, month, year, rebuilt.getOvertimeTotal(),
+                rebuilt.getAdvanceTotal(), rebuilt.getUnpaidLeaveDays(), rebuilt.getUnpaidLeaveBits(),
+                rebuilt.getFoodTotal());
+        return ledgerRepository.findForUpdate(employeeId, month, year).orElseThrow();
+    }
+
+    private EmployeeMonthLedger rebuild(Long employeeId, Integer month, Integer year) {
+        EmployeeMonthLedger ledger = new EmployeeMonthLedger(employeeId, month, year);
+        ledger.setOvertimeTotal(overtimeRepository.sumTotalAmountByEmployeeIdAndMonthAndYear(employeeId, month, year));
+        ledger.setAdvanceTotal(installmentRepository.sumDueAmountByEmployeeIdAndMonthAndYear(employeeId, month, year));
+        List<LocalDate> unpaidLeaveDates = leaveRepository.findUnpaidLeaveDatesByEmployeeIdAndMonthAndYear(employeeId, month, year);
+        ledger.setUnpaidLeaveDays(unpaidLeaveDates.size());
+        int unpaidLeaveBits = 0;
+        for (LocalDate date : unpaidLeaveDates) {
+            unpaidLeaveBits |= Attendance.dayBit(date.getDayOfMonth());
+        }
+        ledger.setUnpaidLeaveBits(unpaidLeaveBits);
+        ledger.setFoodTotal(foodExpenseRepository.sumAmountByEmployeeIdAndMonthAndYear(employeeId, month, year));
+        return ledger;
+    }
+
+    private EmployeeMonthLedger actualFor(Map<Long, EmployeeMonthLedger> actual, Long employeeId, Integer month, Integer year) {
+        return actual.computeIfAbsent(employeeId, id -> new EmployeeMonthLedger(id, month, year));
+    }
+
+    private boolean sameTotals(EmployeeMonthLedger a, EmployeeMonthLedger b) {
+        return a.getOvertimeTotal().compareTo(b.getOvertimeTotal()) == 0
+                && a.getAdvanceTotal().compareTo(b.getAdvanceTotal()) == 0
+                && a.getUnpaidLeaveDays().equals(b.getUnpaidLeaveDays())
+                && a.getUnpaidLeaveBits().equals(b.getUnpaidLeaveBits())
+                && a.getFoodTotal().compareTo(b.getFoodTotal()) == 0;
+    }
+}
@@ -2,21 +2,35 @@ package com.empmanage.service;
 
 import com.empmanage.dto.request.EmployeeRequest;
 import com.empmanage.dto.response.EmployeeResponse;
+import com.empmanage.dto.response.MonthlyTransactionsResponse;
 import com.empmanage.entity.Employee;
+import com.empmanage.event.LiveUpdate;
 import com.empmanage.exception.ResourceNotFoundException;
 import com.empmanage.repository.EmployeeRepository;
+import com.empmanage.repository.MonthlyTransactionRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    private static final String ATTENDANCE = "ATTENDANCE";
+
     private final EmployeeRepository employeeRepository;
+    private final CompensationService compensationService;
+    private final ApplicationEventPublisher events;
 
     @Transactional
     public EmployeeResponse createEmployee(EmployeeRequest request) {
@@ -32,6 +46,8 @@ public class EmployeeService {
         employee.setActive(true);
 
         Employee saved = employeeRepository.save(employee);
+        compensationService.recordBaseline(saved);
+        events.publishEvent(new LiveUpdate(LiveUpdate.EMPLOYEE_CHANGED, saved.getId()));
         return mapToResponse(saved);
     }
 
@@ -60,10 +76,18 @@ public class EmployeeService {
 
         employee.setName(request.getName());
         employee.setMobile(request.getMobile());
-        employee.setBaseSalary(request.getBaseSalary());
-        employee.setPfAmount(request.getPfAmount());
+        if (employee.getBaseSalary().compareTo(request.getBaseSalary()) != 0
+                || employee.getPfAmount().compareTo(request.getPfAmount()) != 0) {
+            // The employee row keeps the rate in force today, which a back-dated change may not be
+            CompensationIndex.Rate current = compensationService.recordChange(id,
+                    request.getEffectiveDate() != null ? request.getEffectiveDate() : LocalDate.now(),
+                    request.getBaseSalary(), request.getPfAmount());
+            employee.setBaseSalary(current.baseSalary());
+            employee.setPfAmount(current.pfAmount());
+        }
 
         Employee updated = employeeRepository.save(employee);
+        events.publishEvent(new LiveUpdate(LiveUpdate.EMPLOYEE_CHANGED, updated.getId()));
         return mapToResponse(updated);
     }
 
@@ -73,6 +97,7 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
         employee.setActive(false);
         employeeRepository.save(employee);
+        events.publishEvent(new LiveUpdate(LiveUpdate.EMPLOYEE_CHANGED, id));
     }
 
     public Employee getEmployeeEntity(Long id) {
@@ -80,6 +105,41 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
     }
 
+    /**
+     * All transactions of an employee's month from a single UNION ALL query. An unknown
+     * employee yields an empty month rather than costing an extra lookup.
+     */
+    public MonthlyTransactionsResponse getMonthlyTransactions(Long id, Integer month, Integer year) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<MonthlyTransactionRow> rows = employeeRepository.findMonthlyTransactions(
+                id, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+
+        Map<String, MonthlyTransactionsResponse.TypeTotal> totals = new LinkedHashMap<>();
+        List<MonthlyTransactionsResponse.Entry> entries = new ArrayList<>(rows.size());
+        for (MonthlyTransactionRow row : rows) {
+            if (ATTENDANCE.equals(row.getType())) {
+                // The one attendance row of the month: unpaid absence days and a day count summary
+                int halfDays = Integer.bitCount(row.getHalfDayBits());
+                int absent = Integer.bitCount(row.getAbsentBits());
+                BigDecimal unpaidDays = BigDecimal.valueOf(absent)
+                        .add(BigDecimal.valueOf(halfDays).multiply(new BigDecimal("0.5")));
+                totals.put(ATTENDANCE, new MonthlyTransactionsResponse.TypeTotal(ATTENDANCE, 1L, null, unpaidDays));
+                entries.add(new MonthlyTransactionsResponse.Entry(ATTENDANCE, row.getId(), row.getEntryDate(),
+                        null, unpaidDays, null, null, "present " + Integer.bitCount(row.getPresentBits())
+                        + ", half day " + halfDays + ", absent " + absent));
+                continue;
+            }
+            totals.computeIfAbsent(row.getType(), type -> new MonthlyTransactionsResponse.TypeTotal(
+                    type, row.getTypeCount(), row.getTypeAmount(), row.getTypeQuantity()));
+            entries.add(new MonthlyTransactionsResponse.Entry(row.getType(), row.getId(), row.getEntryDate(),
+                    row.getAmount(), row.getQuantity(), row.getRate(), row.getSubtype(), row.getDescription()));
+        }
+        return new MonthlyTransactionsResponse(id, month, year, new ArrayList<>(totals.values()), entries);
+    }
+
     private EmployeeResponse mapToResponse(Employee employee) {
         return new EmployeeResponse(
                 employee.getId(),
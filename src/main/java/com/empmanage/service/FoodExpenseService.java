@@ -0,0 +1,110 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.request.CanteenImportRequest;
+import com.empmanage.dto.request.FoodExpenseRequest;
+import com.empmanage.dto.response.CanteenImportResponse;
+import com.empmanage.entity.Employee;
+import com.empmanage.entity.FoodExpense;
+import com.empmanage.repository.EmployeeRepository;
+import com.empmanage.repository.FoodExpenseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class FoodExpenseService {
+
+    // Rows per JDBC batch; MySQL needs rewriteBatchedStatements=true to send each batch as one statement
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    private final FoodExpenseRepository foodExpenseRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMonthLedgerService ledgerService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public FoodExpense createFoodExpense(FoodExpenseRequest request) {
+        Employee employee = employeeRepository.findById(request.getEmployeeId())
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + request.getEmployeeId()));
+
+        FoodExpense foodExpense = new FoodExpense();
+        foodExpense.setEmployee(employee);
+        foodExpense.setExpenseDate(request.getExpenseDate());
+        foodExpense.setMeals(request.getMeals());
+        foodExpense.setPricePerMeal(request.getPricePerMeal());
+        foodExpense.setAmount(request.getPricePerMeal().multiply(BigDecimal.valueOf(request.getMeals())));
+        foodExpense.setDescription(request.getDescription());
+
+        ledgerService.applyFood(employee.getId(), foodExpense.getExpenseDate(), foodExpense.getAmount());
+        return foodExpenseRepository.save(foodExpense);
+    }
+
+    /**
+     * Records one canteen day for all employees in the request: the rows are inserted in
+     * JDBC batches of {@value #IMPORT_BATCH_SIZE} and the month ledger is updated with one
+     * batch afterwards. The whole import is rejected if any employee does not exist.
+     */
+    @Transactional
+    public CanteenImportResponse importCanteenDay(CanteenImportRequest request) {
+        Map<Long, Integer> mealsByEmployee = new LinkedHashMap<>();
+        for (CanteenImportRequest.Entry entry : request.getEntries()) {
+            if (mealsByEmployee.put(entry.getEmployeeId(), entry.getMeals()) != null) {
+                throw new IllegalArgumentException("Employee " + entry.getEmployeeId() + " appears more than once");
+            }
+        }
+        Set<Long> missing = new HashSet<>(mealsByEmployee.keySet());
+        employeeRepository.findExistingIds(mealsByEmployee.keySet()).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Employees not found: " + missing);
+        }
+
+        Map<Long, BigDecimal> amounts = new LinkedHashMap<>();
+        mealsByEmployee.forEach((employeeId, meals) ->
+                amounts.put(employeeId, request.getPricePerMeal().multiply(BigDecimal.valueOf(meals))));
+
+        Date date = Date.valueOf(request.getDate());
+        List<Long> employeeIds = List.copyOf(mealsByEmployee.keySet());
+        jdbcTemplate.batchUpdate("INSERT INTO food_expenses " +
+                        "(employee_id, expense_date, meals, price_per_meal, amount, description) VALUES (?, ?, ?, ?, ?, ?)",
+                employeeIds, IMPORT_BATCH_SIZE, (ps, employeeId) -> {
+                    ps.setLong(1, employeeId);
+                    ps.setDate(2, date);
+                    ps.setInt(3, mealsByEmployee.get(employeeId));
+                    ps.setBigDecimal(4, request.getPricePerMeal());
+                    ps.setBigDecimal(5, amounts.get(employeeId));
+                    ps.setString(6, request.getDescription());
+                });
+        ledgerService.applyFoodBatch(request.getDate(), amounts);
+
+        int meals = mealsByEmployee.values().stream().mapToInt(Integer::intValue).sum();
+        BigDecimal total = amounts.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CanteenImportResponse(request.getDate(), employeeIds.size(), meals, total);
+    }
+
+    public List<FoodExpense> getFoodExpensesByEmployeeId(Long employeeId) {
+        return foodExpenseRepository.findByEmployeeId(employeeId);
+    }
+
+    public List<FoodExpense> getFoodExpensesByEmployeeIdAndMonth(Long employeeId, Integer month, Integer year) {
+        return foodExpenseRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year);
+    }
+
+    @Transactional
+    public void deleteFoodExpense(Long id) {
+        FoodExpense foodExpense = foodExpenseRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Food expense not found with id: " + id));
+        ledgerService.applyFood(foodExpense.getEmployee().getId(), foodExpense.getExpenseDate(),
+                foodExpense.getAmount().negate());
+        foodExpenseRepository.delete(foodExpense);
+    }
+}
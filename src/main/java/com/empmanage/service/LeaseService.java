@@ -0,0 +1,130 @@
+package com.empmanage.service;
+
+import com.empmanage.entity.JobLease;
+import com.empmanage.repository.JobLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Database-backed leases so that exactly one holder runs a given (job, key) at a time.
+ * Every acquisition gets its own token, so two callers on the same node exclude each
+ * other just as two nodes do. Leases are acquired and renewed in their own transactions,
+ * kept alive by a heartbeat while held, and taken over only after they expire.
+ */
+@Service
+public class LeaseService {
+
+    public static final String PAYROLL_JOB = "PAYROLL";
+    public static final String SMS_DISPATCH_JOB = "SMS_DISPATCH";
+
+    /** One acquisition of a lease; {@code token} is the owner written to the lease row. */
+    public record Lease(String jobName, String leaseKey, String token) {
+    }
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate requiresNew;
+    private final String nodeName = ManagementFactory.getRuntimeMXBean().getName();
+    private final Set<Lease> heldLeases = ConcurrentHashMap.newKeySet();
+
+    @Value("${lease.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public LeaseService(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public static String monthKey(Integer month, Integer year) {
+        return String.format("%04d-%02d", year, month);
+    }
+
+    /**
+     * Runs {@code work} only if the lease can be acquired, releasing it afterwards.
+     *
+     * @return false if the lease is held elsewhere, on this node or another, and the work was skipped
+     */
+    public boolean runExclusively(String jobName, String leaseKey, Consumer<Lease> work) {
+        Lease lease = tryAcquire(jobName, leaseKey);
+        if (lease == null) {
+            return false;
+        }
+        try {
+            work.accept(lease);
+            return true;
+        } finally {
+            release(lease);
+        }
+    }
+
+    /**
+     * Acquires the lease if nobody holds a live one, taking over an expired one.
+     *
+     * @return the acquisition, or null if the lease is held
+     */
+    public Lease tryAcquire(String jobName, String leaseKey) {
+        // Unique per acquisition; the node name only helps to tell holders apart in the table
+        String token = UUID.randomUUID() + "@" + nodeName;
+        Lease lease = new Lease(jobName, leaseKey, token.length() > 100 ? token.substring(0, 100) : token);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(ttlSeconds);
+
+        Integer updated = requiresNew.execute(status ->
+                jobLeaseRepository.takeOverExpired(jobName, leaseKey, lease.token(), now, expiresAt));
+        if (updated == null || updated == 0) {
+            try {
+                requiresNew.executeWithoutResult(status -> jobLeaseRepository.saveAndFlush(
+                        new JobLease(null, jobName, leaseKey, lease.token(), now, now, expiresAt)));
+            } catch (DataIntegrityViolationException e) {
+                // Another holder has a live lease
+                return null;
+            }
+        }
+        heldLeases.add(lease);
+        return lease;
+    }
+
+    /**
+     * Whether the acquisition still owns the lease. Long-running work should check this
+     * between units of work and stop if a missed heartbeat let another holder take over.
+     */
+    public boolean isHeld(Lease lease) {
+        return heldLeases.contains(lease);
+    }
+
+    /** Whether any node currently holds a live lease for the key. */
+    public boolean isLeased(String jobName, String leaseKey) {
+        return jobLeaseRepository.existsByJobNameAndLeaseKeyAndExpiresAtAfter(jobName, leaseKey, LocalDateTime.now());
+    }
+
+    /** Releases the acquisition; a lease since taken over by another holder is left alone. */
+    public void release(Lease lease) {
+        heldLeases.remove(lease);
+        requiresNew.executeWithoutResult(status ->
+                jobLeaseRepository.release(lease.jobName(), lease.leaseKey(), lease.token()));
+    }
+
+    @Scheduled(fixedDelayString = "${lease.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        heldLeases.forEach(lease -> {
+            LocalDateTime now = LocalDateTime.now();
+            Integer renewed = requiresNew.execute(status -> jobLeaseRepository.renew(
+                    lease.jobName(), lease.leaseKey(), lease.token(), now, now.plusSeconds(ttlSeconds)));
+            if (renewed == null || renewed == 0) {
+                heldLeases.remove(lease);
+            }
+        });
+    }
+}
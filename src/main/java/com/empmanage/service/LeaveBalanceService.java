@@ -0,0 +1,137 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.LeaveBalanceResponse;
+import com.empmanage.entity.Leave;
+import com.empmanage.entity.LeaveBalance;
+import com.empmanage.repository.LeaveBalanceRepository;
+import com.empmanage.repository.LeaveRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Paid leave entitlement and per-year balances in {@link LeaveBalance}. The entitlement
+ * ({@code leave.paid-days-per-year}) accrues evenly per month or is available from
+ * January 1st ({@code leave.accrual} MONTHLY or YEARLY). Like the month ledger, the
+ * balance row is locked and updated in the transaction that writes the leave, before the
+ * leave row itself is inserted or deleted.
+ */
+@Service
+public class LeaveBalanceService {
+
+    public enum Accrual {
+        MONTHLY, YEARLY
+    }
+
+    // A no-op when another transaction created the row first; the caller then locks that row
+    private static final String INSERT_BALANCE_SQL = "INSERT INTO leave_balances " +
+            "(employee_id, year, entitlement, paid_taken, unpaid_taken) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE employee_id = employee_id";
+
+    private final LeaveBalanceRepository balanceRepository;
+    private final LeaveRepository leaveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int paidDaysPerYear;
+    private final Accrual accrual;
+
+    public LeaveBalanceService(LeaveBalanceRepository balanceRepository,
+                               LeaveRepository leaveRepository,
+                               JdbcTemplate jdbcTemplate,
+                               @Value("${leave.paid-days-per-year:12}") int paidDaysPerYear,
+                               @Value("${leave.accrual:MONTHLY}") String accrual) {
+        this.balanceRepository = balanceRepository;
+        this.leaveRepository = leaveRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.paidDaysPerYear = paidDaysPerYear;
+        this.accrual = Accrual.valueOf(accrual.trim().toUpperCase());
+    }
+
+    /**
+     * Counts a new leave and returns the type to record it as: a leave requested as PAID,
+     * or without a type, is recorded as UNPAID once the paid days accrued by its month are
+     * used up.
+     */
+    @Transactional
+    public Leave.LeaveType applyLeave(Long employeeId, LocalDate date, Leave.LeaveType requested) {
+        LeaveBalance balance = lockBalance(employeeId, date.getYear());
+        Leave.LeaveType type = requested != Leave.LeaveType.UNPAID
+                && balance.getPaidTaken() < accrued(balance.getEntitlement(), date.getMonthValue())
+                ? Leave.LeaveType.PAID
+                : Leave.LeaveType.UNPAID;
+        if (type == Leave.LeaveType.PAID) {
+            balance.setPaidTaken(balance.getPaidTaken() + 1);
+        } else {
+            balance.setUnpaidTaken(balance.getUnpaidTaken() + 1);
+        }
+        balanceRepository.save(balance);
+        return type;
+    }
+
+    /** Gives back the day of a leave that is being deleted. */
+    @Transactional
+    public void releaseLeave(Long employeeId, LocalDate date, Leave.LeaveType type) {
+        LeaveBalance balance = lockBalance(employeeId, date.getYear());
+        if (type == Leave.LeaveType.PAID) {
+            balance.setPaidTaken(balance.getPaidTaken() - 1);
+        } else {
+            balance.setUnpaidTaken(balance.getUnpaidTaken() - 1);
+        }
+        balanceRepository.save(balance);
+    }
+
+    /**
+     * The balance for the year, accrued up to the current month for the current year. A
+     * year without a stored row is computed from the leave rows without being saved.
+     */
+    public LeaveBalanceResponse getBalance(Long employeeId, Integer year) {
+        LeaveBalance balance = balanceRepository.findByEmployeeIdAndYear(employeeId, year)
+                .orElseGet(() -> rebuild(employeeId, year));
+        LocalDate today = LocalDate.now();
+        int months = year < today.getYear() ? 12 : year == today.getYear() ? today.getMonthValue() : 0;
+        int accrued = accrued(balance.getEntitlement(), months);
+        return new LeaveBalanceResponse(employeeId, year, accrual.name(), balance.getEntitlement(), accrued,
+                balance.getPaidTaken(), balance.getUnpaidTaken(), Math.max(0, accrued - balance.getPaidTaken()));
+    }
+
+    /** Paid days available by the end of the given month (0 before January). */
+    private int accrued(int entitlement, int months) {
+        if (months <= 0) {
+            return 0;
+        }
+        return accrual == Accrual.YEARLY ? entitlement : entitlement * months / 12;
+    }
+
+    /**
+     * Locks the year's balance row, creating it from the leave rows first if needed, as
+     * {@link EmployeeMonthLedgerService} does for the month ledger: of two transactions
+     * that find no row, the second insert waits on the unique key and does nothing.
+     */
+    private LeaveBalance lockBalance(Long employeeId, Integer year) {
+        Optional<LeaveBalance> existing = balanceRepository.findForUpdate(employeeId, year);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        LeaveBalance rebuilt = rebuild(employeeId, year);
+        jdbcTemplate.update(INSERT_BALANCE_SQL, employeeId, year, rebuilt.getEntitlement(),
+                rebuilt.getPaidTaken(), rebuilt.getUnpaidTaken());
+        return balanceRepository.findForUpdate(employeeId, year).orElseThrow();
+    }
+
+    private LeaveBalance rebuild(Long employeeId, Integer year) {
+        LeaveBalance balance = new LeaveBalance(employeeId, year, paidDaysPerYear);
+        for (Object[] row : leaveRepository.countByEmployeeIdAndDateRangeGroupedByType(
+                employeeId, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))) {
+            int count = ((Number) row[1]).intValue();
+            if (row[0] == Leave.LeaveType.PAID) {
+                balance.setPaidTaken(count);
+            } else {
+                balance.setUnpaidTaken(count);
+            }
+        }
+        return balance;
+    }
+}
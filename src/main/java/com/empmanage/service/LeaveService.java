@@ -17,6 +17,8 @@ public class LeaveService {
 
     private final LeaveRepository leaveRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeMonthLedgerService ledgerService;
+    private final LeaveBalanceService balanceService;
 
     @Transactional
     public Leave createLeave(LeaveRequest request) {
@@ -26,9 +28,10 @@ public class LeaveService {
         Leave leave = new Leave();
         leave.setEmployee(employee);
         leave.setLeaveDate(request.getLeaveDate());
-        leave.setLeaveType(request.getLeaveType());
         leave.setDescription(request.getDescription());
-
+        // Paid only while the employee has paid days left
+        leave.setLeaveType(balanceService.applyLeave(employee.getId(), leave.getLeaveDate(), request.getLeaveType()));
+        ledgerService.applyNewLeave(employee.getId(), leave.getLeaveDate(), leave.getLeaveType());
         return leaveRepository.save(leave);
     }
 
@@ -46,10 +49,13 @@ public class LeaveService {
 
     @Transactional
     public void deleteLeave(Long id) {
-        if (!leaveRepository.existsById(id)) {
-            throw new IllegalArgumentException("Leave not found with id: " + id);
+        Leave leave = leaveRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Leave not found with id: " + id));
+        balanceService.releaseLeave(leave.getEmployee().getId(), leave.getLeaveDate(), leave.getLeaveType());
+        if (leave.getLeaveType() == Leave.LeaveType.UNPAID) {
+            ledgerService.applyUnpaidLeave(leave.getEmployee().getId(), leave.getLeaveDate(), -1);
         }
-        leaveRepository.deleteById(id);
+        leaveRepository.delete(leave);
     }
 }
 
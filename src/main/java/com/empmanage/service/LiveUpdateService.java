@@ -0,0 +1,233 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.DashboardResponse;
+import com.empmanage.event.LiveUpdate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans live updates out to {@code /api/events} subscribers. Each update is serialized
+ * once and the same frame is queued for every client. Clients get a bounded buffer and
+ * are disconnected when it fills up; the browser's EventSource reconnects and starts
+ * again from a fresh dashboard snapshot. Writes happen on a small sender pool, never
+ * on the thread that published the update.
+ */
+@Service
+public class LiveUpdateService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateService.class);
+
+    private static final Set<String> DASHBOARD_TRIGGERS = Set.of(
+            LiveUpdate.EMPLOYEE_CHANGED, LiveUpdate.SALARY_GENERATED, LiveUpdate.PAYROLL_RUN);
+
+    private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+    private final int clientBuffer;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dashboardDirty = new AtomicBoolean(true);
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+    private final ExecutorService sender;
+    private final Counter droppedClients;
+
+    private volatile DashboardResponse lastDashboard;
+    private volatile Set<DataWithMediaType> lastDashboardFrame;
+
+    public LiveUpdateService(DashboardService dashboardService,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${events.client-buffer:256}") int clientBuffer,
+                             @Value("${events.sender-threads:2}") int senderThreads) {
+        this.dashboardService = dashboardService;
+        this.objectMapper = objectMapper;
+        this.clientBuffer = clientBuffer;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.droppedClients = Counter.builder("events.clients.dropped")
+                .description("SSE clients disconnected for a full buffer or a failed write")
+                .register(meterRegistry);
+        Gauge.builder("events.clients", subscribers, Set::size)
+                .description("Connected SSE clients")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a client. The first frame it receives is the last dashboard sent; if it
+     * has gone stale, the next scheduled push corrects it.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        Set<DataWithMediaType> dashboard = lastDashboardFrame;
+        if (dashboard == null) {
+            dashboard = refreshDashboard();
+        }
+        if (dashboard != null) {
+            enqueue(subscriber, dashboard);
+        }
+        return emitter;
+    }
+
+    /**
+     * Updates published inside a transaction are sent after it commits, so a rolled-back
+     * payroll chunk never reaches clients.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLiveUpdate(LiveUpdate update) {
+        if (DASHBOARD_TRIGGERS.contains(update.getType())) {
+            dashboardDirty.set(true);
+        }
+        if (!subscribers.isEmpty()) {
+            broadcast(frame(update.getType(), update.getData()));
+        }
+    }
+
+    /**
+     * Recomputes the dashboard at most once per interval, and only after something that
+     * affects it has changed. A payroll run generating thousands of salaries costs one
+     * dashboard query set per interval rather than one per salary.
+     */
+    @Scheduled(fixedDelayString = "${events.dashboard-interval-ms:2000}")
+    public void pushDashboardChanges() {
+        if (subscribers.isEmpty() || !dashboardDirty.get()) {
+            return;
+        }
+        DashboardResponse previous = lastDashboard;
+        Set<DataWithMediaType> frame = refreshDashboard();
+        DashboardResponse current = lastDashboard;
+        if (frame != null && current != null && !current.equals(previous)) {
+            broadcast(frame);
+        }
+    }
+
+    /**
+     * A comment line every interval. Writing to a connection whose client went away fails,
+     * which is how dead subscribers are found and removed.
+     */
+    @Scheduled(fixedRateString = "${events.heartbeat-ms:15000}")
+    public void sendHeartbeat() {
+        broadcast(heartbeat);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private Set<DataWithMediaType> refreshDashboard() {
+        dashboardDirty.set(false);
+        try {
+            DashboardResponse dashboard = dashboardService.getDashboard();
+            Set<DataWithMediaType> frame = frame(LiveUpdate.DASHBOARD, dashboard);
+            lastDashboard = dashboard;
+            lastDashboardFrame = frame;
+            return frame;
+        } catch (RuntimeException e) {
+            dashboardDirty.set(true);
+            log.warn("Failed to refresh live dashboard", e);
+            return lastDashboardFrame;
+        }
+    }
+
+    private Set<DataWithMediaType> frame(String name, Object data) {
+        try {
+            return SseEmitter.event()
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(data), MediaType.TEXT_PLAIN)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live update " + name, e);
+        }
+    }
+
+    private void broadcast(Set<DataWithMediaType> frame) {
+        for (Subscriber subscriber : subscribers) {
+            enqueue(subscriber, frame);
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<DataWithMediaType> frame) {
+        if (!subscriber.buffer.offer(frame)) {
+            drop(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Writes everything queued for one client. The draining flag keeps a single sender
+     * per client, so frames are never interleaved on the wire.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Set<DataWithMediaType> frame;
+                while ((frame = subscriber.buffer.poll()) != null) {
+                    for (DataWithMediaType part : frame) {
+                        subscriber.emitter.send(part.getData(), part.getMediaType());
+                    }
+                }
+                subscriber.draining.set(false);
+            } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            droppedClients.increment();
+            subscriber.buffer.clear();
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException ignored) {
+                // the connection is already gone
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer = new ArrayBlockingQueue<>(clientBuffer);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class OvertimeService {
 
     private final OvertimeRepository overtimeRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeMonthLedgerService ledgerService;
 
     @Transactional
     public Overtime createOvertime(OvertimeRequest request) {
@@ -34,6 +35,7 @@ public class OvertimeService {
         BigDecimal totalAmount = request.getHours().multiply(request.getRatePerHour());
         overtime.setTotalAmount(totalAmount);
 
+        ledgerService.applyNewOvertime(employee.getId(), overtime.getOvertimeDate(), totalAmount);
         return overtimeRepository.save(overtime);
     }
 
@@ -47,10 +49,11 @@ public class OvertimeService {
 
     @Transactional
     public void deleteOvertime(Long id) {
-        if (!overtimeRepository.existsById(id)) {
-            throw new IllegalArgumentException("Overtime not found with id: " + id);
-        }
-        overtimeRepository.deleteById(id);
+        Overtime overtime = overtimeRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Overtime not found with id: " + id));
+        ledgerService.applyOvertime(overtime.getEmployee().getId(), overtime.getOvertimeDate(),
+                overtime.getTotalAmount().negate());
+        overtimeRepository.delete(overtime);
     }
 }
 
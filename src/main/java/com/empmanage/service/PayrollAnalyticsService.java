@@ -0,0 +1,260 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.AnalyticsDeltaResponse;
+import com.empmanage.dto.response.AnalyticsDistributionResponse;
+import com.empmanage.dto.response.AnalyticsMonthlyResponse;
+import com.empmanage.dto.response.AnalyticsRankingResponse;
+import com.empmanage.service.PayrollSnapshot.Measure;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ad-hoc payroll questions answered from in-memory {@link PayrollSnapshot}s instead of SQL.
+ * A snapshot is loaded on first use for a month or a year together with a watermark of the
+ * period's salaries (their count and highest id). Every query re-reads the watermark, one
+ * aggregate row, and reloads when it moved, so salaries generated on any node are seen.
+ * At most {@code analytics.max-snapshots} are kept, the least recently used going first.
+ */
+@Service
+public class PayrollAnalyticsService {
+
+    private static final double[] PERCENTILES = {10, 25, 50, 75, 90, 99};
+
+    private static final String SNAPSHOT_SQL = "SELECT s.employee_id, e.name, s.month, s.base_salary, s.total_overtime, " +
+            "s.total_advances, s.total_leaves, s.attendance_deduction, s.pf_deduction, s.food_expense, s.final_salary " +
+            "FROM salaries s JOIN employees e ON e.id = s.employee_id WHERE s.year = ?";
+
+    // Salaries are only ever inserted, so a new one always moves the count or the highest id
+    private static final String WATERMARK_SQL =
+            "SELECT COUNT(*), COALESCE(MAX(s.id), 0) FROM salaries s WHERE s.year = ?";
+
+    private record Watermark(long count, long maxId) {
+    }
+
+    private record Cached(PayrollSnapshot snapshot, Watermark watermark) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Integer, Cached> snapshots;
+
+    public PayrollAnalyticsService(JdbcTemplate jdbcTemplate,
+                                   @Value("${analytics.max-snapshots:24}") int maxSnapshots) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshots = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Cached> eldest) {
+                return size() > maxSnapshots;
+            }
+        });
+    }
+
+    /**
+     * Employees with the largest values of a measure, optionally only those at or above
+     * {@code min}.
+     */
+    public AnalyticsRankingResponse top(Integer year, Integer month, String measureName, int limit, BigDecimal min) {
+        Measure measure = parseMeasure(measureName);
+        validateLimit(limit);
+        PayrollSnapshot snapshot = snapshot(year, month);
+        long[] values = snapshot.valuesByEmployee(measure);
+        long floor = min != null ? PayrollSnapshot.toCents(min) : Long.MIN_VALUE;
+
+        int[] top = PayrollSnapshot.topK(values, limit, e -> values[e] >= floor);
+        List<AnalyticsRankingResponse.Entry> entries = new ArrayList<>(top.length);
+        for (int e : top) {
+            entries.add(new AnalyticsRankingResponse.Entry(snapshot.employeeId(e), snapshot.employeeName(e),
+                    PayrollSnapshot.fromCents(values[e]), null));
+        }
+        return new AnalyticsRankingResponse(year, month, measure.name(), snapshot.employeeCount(), entries);
+    }
+
+    /**
+     * Employees ranked by numerator / denominator, e.g. advances to final salary, keeping
+     * those with a positive denominator and a ratio of at least {@code minRatio}.
+     */
+    public AnalyticsRankingResponse ratio(Integer year, Integer month, String numeratorName, String denominatorName,
+                                          BigDecimal minRatio, int limit) {
+        Measure numerator = parseMeasure(numeratorName);
+        Measure denominator = parseMeasure(denominatorName);
+        validateLimit(limit);
+        PayrollSnapshot snapshot = snapshot(year, month);
+        long[] top = snapshot.valuesByEmployee(numerator);
+        long[] bottom = snapshot.valuesByEmployee(denominator);
+
+        // Ratios in basis points keep the scan in integer arithmetic
+        long[] basisPoints = new long[top.length];
+        for (int e = 0; e < top.length; e++) {
+            basisPoints[e] = bottom[e] > 0 ? top[e] * 10_000 / bottom[e] : Long.MIN_VALUE;
+        }
+        long floor = minRatio != null
+                ? minRatio.movePointRight(4).setScale(0, RoundingMode.CEILING).longValueExact()
+                : Long.MIN_VALUE + 1;
+
+        int[] ranked = PayrollSnapshot.topK(basisPoints, limit, e -> basisPoints[e] >= floor);
+        List<AnalyticsRankingResponse.Entry> entries = new ArrayList<>(ranked.length);
+        for (int e : ranked) {
+            entries.add(new AnalyticsRankingResponse.Entry(snapshot.employeeId(e), snapshot.employeeName(e),
+                    PayrollSnapshot.fromCents(top[e]), BigDecimal.valueOf(basisPoints[e], 4)));
+        }
+        return new AnalyticsRankingResponse(year, month, numerator.name() + "/" + denominator.name(),
+                snapshot.employeeCount(), entries);
+    }
+
+    public AnalyticsDistributionResponse distribution(Integer year, Integer month, String measureName, int buckets) {
+        Measure measure = parseMeasure(measureName);
+        if (buckets < 1 || buckets > 100) {
+            throw new IllegalArgumentException("Buckets must be between 1 and 100");
+        }
+        PayrollSnapshot snapshot = snapshot(year, month);
+        int employees = snapshot.employeeCount();
+        long total = snapshot.total(measure);
+
+        Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+        List<AnalyticsDistributionResponse.Bucket> histogram = new ArrayList<>();
+        BigDecimal min = BigDecimal.ZERO;
+        BigDecimal max = BigDecimal.ZERO;
+        BigDecimal mean = BigDecimal.ZERO;
+        if (employees > 0) {
+            long[] sorted = snapshot.sortedValues(measure);
+            long low = sorted[0];
+            long high = sorted[sorted.length - 1];
+            min = PayrollSnapshot.fromCents(low);
+            max = PayrollSnapshot.fromCents(high);
+            mean = PayrollSnapshot.fromCents(total).divide(BigDecimal.valueOf(employees), 2, RoundingMode.HALF_UP);
+            for (double p : PERCENTILES) {
+                percentiles.put("p" + (int) p, PayrollSnapshot.fromCents(snapshot.percentile(measure, p)));
+            }
+
+            int[] counts = snapshot.histogram(measure, low, high, buckets);
+            long width = Math.max(1, (high - low + buckets) / buckets);
+            for (int b = 0; b < buckets; b++) {
+                histogram.add(new AnalyticsDistributionResponse.Bucket(
+                        PayrollSnapshot.fromCents(low + b * width),
+                        PayrollSnapshot.fromCents(low + (b + 1) * width),
+                        counts[b]));
+            }
+        }
+        return new AnalyticsDistributionResponse(year, month, measure.name(), employees,
+                PayrollSnapshot.fromCents(total), min, max, mean, percentiles, histogram);
+    }
+
+    /**
+     * Change of a measure against the previous month, with the employees whose value moved
+     * the most in either direction. Employees without a salary last month count from zero.
+     */
+    public AnalyticsDeltaResponse deltas(Integer year, Integer month, String measureName, int limit) {
+        Measure measure = parseMeasure(measureName);
+        validateLimit(limit);
+        if (month == null) {
+            throw new IllegalArgumentException("Month is required for month-over-month deltas");
+        }
+        PayrollSnapshot current = snapshot(year, month);
+        int previousMonth = month == 1 ? 12 : month - 1;
+        int previousYear = month == 1 ? year - 1 : year;
+        PayrollSnapshot previous = snapshot(previousYear, previousMonth);
+        long[] now = current.valuesByEmployee(measure);
+        long[] before = previous.valuesByEmployee(measure);
+
+        long[] delta = new long[now.length];
+        long[] magnitude = new long[now.length];
+        for (int e = 0; e < now.length; e++) {
+            int p = previous.indexOf(current.employeeId(e));
+            delta[e] = now[e] - (p >= 0 ? before[p] : 0);
+            magnitude[e] = Math.abs(delta[e]);
+        }
+
+        int[] moved = PayrollSnapshot.topK(magnitude, limit, e -> true);
+        List<AnalyticsDeltaResponse.Entry> entries = new ArrayList<>(moved.length);
+        for (int e : moved) {
+            entries.add(new AnalyticsDeltaResponse.Entry(current.employeeId(e), current.employeeName(e),
+                    PayrollSnapshot.fromCents(now[e] - delta[e]),
+                    PayrollSnapshot.fromCents(now[e]),
+                    PayrollSnapshot.fromCents(delta[e])));
+        }
+        long currentTotal = current.total(measure);
+        long previousTotal = previous.total(measure);
+        return new AnalyticsDeltaResponse(year, month, previousYear, previousMonth, measure.name(),
+                PayrollSnapshot.fromCents(currentTotal), PayrollSnapshot.fromCents(previousTotal),
+                PayrollSnapshot.fromCents(currentTotal - previousTotal), entries);
+    }
+
+    public AnalyticsMonthlyResponse monthly(Integer year, String measureName) {
+        Measure measure = parseMeasure(measureName);
+        PayrollSnapshot snapshot = snapshot(year, null);
+        long[] totals = snapshot.totalsByMonth(measure);
+        int[] employees = snapshot.employeesByMonth();
+        List<AnalyticsMonthlyResponse.MonthTotal> months = new ArrayList<>();
+        for (int m = 1; m <= 12; m++) {
+            if (employees[m] > 0) {
+                months.add(new AnalyticsMonthlyResponse.MonthTotal(m, employees[m], PayrollSnapshot.fromCents(totals[m])));
+            }
+        }
+        return new AnalyticsMonthlyResponse(year, measure.name(), months);
+    }
+
+    private PayrollSnapshot snapshot(Integer year, Integer month) {
+        if (year == null || year < 1900 || year > 9999) {
+            throw new IllegalArgumentException("Year must be between 1900 and 9999");
+        }
+        if (month != null && (month < 1 || month > 12)) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        // Read before the rows: a salary committed in between only makes the next query reload
+        Watermark watermark = watermark(year, month);
+        Cached cached = snapshots.get(key(year, month));
+        if (cached != null && cached.watermark().equals(watermark)) {
+            return cached.snapshot();
+        }
+        PayrollSnapshot snapshot = load(year, month);
+        snapshots.put(key(year, month), new Cached(snapshot, watermark));
+        return snapshot;
+    }
+
+    private Watermark watermark(int year, Integer month) {
+        String sql = WATERMARK_SQL + (month != null ? " AND s.month = ?" : "");
+        Object[] args = month != null ? new Object[]{year, month} : new Object[]{year};
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new Watermark(rs.getLong(1), rs.getLong(2)), args);
+    }
+
+    private PayrollSnapshot load(int year, Integer month) {
+        PayrollSnapshot.Builder builder = new PayrollSnapshot.Builder(year, month);
+        long[] amounts = new long[Measure.values().length];
+        String sql = SNAPSHOT_SQL + (month != null ? " AND s.month = ?" : "") + " ORDER BY s.employee_id, s.month";
+        Object[] args = month != null ? new Object[]{year, month} : new Object[]{year};
+        jdbcTemplate.query(sql, rs -> {
+            for (int m = 0; m < amounts.length; m++) {
+                amounts[m] = PayrollSnapshot.toCents(rs.getBigDecimal(4 + m));
+            }
+            builder.add(rs.getLong(1), rs.getString(2), rs.getInt(3), amounts);
+        }, args);
+        return builder.build();
+    }
+
+    private static Integer key(int year, Integer month) {
+        return year * 100 + (month != null ? month : 0);
+    }
+
+    private static Measure parseMeasure(String name) {
+        try {
+            return Measure.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unknown measure '" + name + "'. Use one of " + Arrays.toString(Measure.values()));
+        }
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("Limit must be between 1 and 1000");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.empmanage.service;
+
+import com.empmanage.entity.PayrollRun;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Triggers {@link PayrollJobService} runs: on demand from the API (in the background), on
+ * startup and periodically for runs left RUNNING by a crash, a redeploy or a node that
+ * lost its lease, and on the month-end schedule when {@code payroll.job.schedule-enabled=true}.
+ * Every trigger holds the month's payroll lease, so only one node works on a month.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayrollJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollJobRunner.class);
+
+    private final PayrollJobService payrollJobService;
+    private final LeaseService leaseService;
+
+    /** A prepared run together with the lease acquisition it runs under. */
+    public record StartedRun(PayrollRun run, LeaseService.Lease lease) {
+    }
+
+    /**
+     * Acquires the month's lease and prepares the run. The lease stays held until
+     * {@link #execute(StartedRun)} finishes.
+     */
+    public StartedRun start(Integer month, Integer year) {
+        LeaseService.Lease lease = leaseService.tryAcquire(LeaseService.PAYROLL_JOB, LeaseService.monthKey(month, year));
+        if (lease == null) {
+            throw new IllegalArgumentException("Payroll for " + month + "/" + year + " is already running");
+        }
+        try {
+            return new StartedRun(payrollJobService.prepareRun(month, year), lease);
+        } catch (RuntimeException e) {
+            leaseService.release(lease);
+            throw e;
+        }
+    }
+
+    @Async
+    public void execute(StartedRun started) {
+        try {
+            payrollJobService.runToCompletion(started.run().getId(), started.lease());
+        } finally {
+            leaseService.release(started.lease());
+        }
+    }
+
+    /** Generates the previous month's payroll, unless it is already completed or running elsewhere. */
+    public void runPreviousMonth() {
+        LocalDate previousMonth = LocalDate.now().minusMonths(1);
+        int month = previousMonth.getMonthValue();
+        int year = previousMonth.getYear();
+        try {
+            leaseService.runExclusively(LeaseService.PAYROLL_JOB, LeaseService.monthKey(month, year), lease -> {
+                PayrollRun run = payrollJobService.prepareRun(month, year);
+                payrollJobService.runToCompletion(run.getId(), lease);
+            });
+        } catch (IllegalArgumentException e) {
+            // Already completed for this month
+            log.info("Scheduled payroll skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Continues every RUNNING run whose lease has expired. A run still being processed
+     * holds a live lease, so it is left alone.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        payrollJobService.findInterruptedRuns().forEach(run ->
+                leaseService.runExclusively(LeaseService.PAYROLL_JOB, LeaseService.monthKey(run.getMonth(), run.getYear()),
+                        lease -> payrollJobService.runToCompletion(run.getId(), lease)));
+    }
+
+    /**
+     * Picks up runs orphaned while this node is up, such as one whose owner missed its
+     * heartbeats and stopped. Goes through the proxy so the runs resume in the background.
+     */
+    @Component
+    @RequiredArgsConstructor
+    public static class InterruptedRunCheck {
+
+        private final PayrollJobRunner runner;
+
+        @Scheduled(fixedDelayString = "${payroll.job.resume-interval-ms:60000}",
+                initialDelayString = "${payroll.job.resume-interval-ms:60000}")
+        public void run() {
+            runner.resumeInterruptedRuns();
+        }
+    }
+
+    /** The month-end schedule; off unless enabled, so every node does not start it by default. */
+    @Component
+    @ConditionalOnProperty(name = "payroll.job.schedule-enabled", havingValue = "true")
+    @RequiredArgsConstructor
+    public static class MonthEndSchedule {
+
+        private final PayrollJobRunner runner;
+
+        @Scheduled(cron = "${payroll.job.cron:0 0 2 1 * *}")
+        public void run() {
+            runner.runPreviousMonth();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.PayrollRunResponse;
+import com.empmanage.entity.Employee;
+import com.empmanage.entity.PayrollRun;
+import com.empmanage.entity.PayrollRunFailure;
+import com.empmanage.event.LiveUpdate;
+import com.empmanage.exception.ResourceNotFoundException;
+import com.empmanage.repository.EmployeeRepository;
+import com.empmanage.repository.PayrollRunFailureRepository;
+import com.empmanage.repository.PayrollRunRepository;
+import com.empmanage.repository.SalaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Month-end payroll generation for all active employees, processed in chunks.
+ * Each chunk's salaries and the run checkpoint commit together, so a run that is
+ * interrupted resumes after the last committed employee instead of starting over.
+ * An employee whose salary cannot be generated is recorded as a {@link PayrollRunFailure}
+ * and skipped; the rest of the run goes on.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayrollJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollJobService.class);
+
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunFailureRepository payrollRunFailureRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SalaryRepository salaryRepository;
+    private final SalaryCalculationService salaryCalculationService;
+    private final CompensationService compensationService;
+    private final LeaseService leaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher events;
+
+    @Value("${payroll.job.chunk-size:100}")
+    private int chunkSize;
+
+    /**
+     * Creates the run for the month, or moves a failed or interrupted run back to RUNNING
+     * so it continues from its checkpoint. Callers must hold the month's payroll lease.
+     */
+    @Transactional
+    public PayrollRun prepareRun(Integer month, Integer year) {
+        PayrollRun run = payrollRunRepository.findByMonthAndYear(month, year).orElse(null);
+        if (run == null) {
+            run = new PayrollRun();
+            run.setMonth(month);
+            run.setYear(year);
+            run.setChunkSize(chunkSize);
+        } else if (run.getStatus() == PayrollRun.RunStatus.COMPLETED) {
+            throw new IllegalArgumentException("Payroll for " + month + "/" + year + " is already completed");
+        }
+
+        run.setStatus(PayrollRun.RunStatus.RUNNING);
+        run.setTotalEmployees(employeeRepository.countByActiveTrue());
+        run.setLastError(null);
+        return payrollRunRepository.save(run);
+    }
+
+    /**
+     * Processes chunks until the run completes. A chunk that fails is rolled back and
+     * retried one employee per transaction, so only the employees that fail again are
+     * recorded and skipped. The run is marked FAILED only if its checkpoint cannot be
+     * written. If the payroll lease is lost mid-run, processing stops and the run stays
+     * RUNNING until a node takes over the expired lease and continues it. Progress is published as a live update after every committed chunk.
+     * Compensation history is loaded once for the whole run.
+     */
+    public PayrollRun runToCompletion(Long runId, LeaseService.Lease lease) {
+        try {
+            CompensationIndex compensation = compensationService.loadIndex();
+            PayrollRun run;
+            do {
+                run = processChunk(runId, compensation);
+                events.publishEvent(new LiveUpdate(LiveUpdate.PAYROLL_RUN, mapToResponse(run)));
+            } while (run.getStatus() == PayrollRun.RunStatus.RUNNING && leaseService.isHeld(lease));
+            if (run.getStatus() == PayrollRun.RunStatus.RUNNING) {
+                log.warn("Payroll run {} stopped after losing its lease at employee {}", runId, run.getLastEmployeeId());
+            }
+            return run;
+        } catch (RuntimeException e) {
+            PayrollRun failed = transactionTemplate.execute(status -> markFailed(runId, e));
+            events.publishEvent(new LiveUpdate(LiveUpdate.PAYROLL_RUN, mapToResponse(failed)));
+            return failed;
+        }
+    }
+
+    public List<PayrollRun> findInterruptedRuns() {
+        return payrollRunRepository.findByStatus(PayrollRun.RunStatus.RUNNING);
+    }
+
+    public List<PayrollRunFailure> getFailures(Integer month, Integer year) {
+        PayrollRun run = payrollRunRepository.findByMonthAndYear(month, year)
+                .orElseThrow(() -> new ResourceNotFoundException("No payroll run for " + month + "/" + year));
+        return payrollRunFailureRepository.findByRunIdOrderByEmployeeId(run.getId());
+    }
+
+    public PayrollRunResponse getRun(Integer month, Integer year) {
+        PayrollRun run = payrollRunRepository.findByMonthAndYear(month, year)
+                .orElseThrow(() -> new ResourceNotFoundException("No payroll run for " + month + "/" + year));
+        return mapToResponse(run);
+    }
+
+    public List<PayrollRunResponse> getAllRuns() {
+        return payrollRunRepository.findAllByOrderByYearDescMonthDesc().stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+
+    public PayrollRunResponse mapToResponse(PayrollRun run) {
+        int progress = run.getTotalEmployees() == 0
+                ? (run.getStatus() == PayrollRun.RunStatus.COMPLETED ? 100 : 0)
+                : (int) Math.min(100, run.getProcessedEmployees() * 100 / run.getTotalEmployees());
+        return new PayrollRunResponse(
+                run.getId(),
+                run.getMonth(),
+                run.getYear(),
+                run.getStatus().name(),
+                run.getChunkSize(),
+                run.getChunksCompleted(),
+                run.getTotalEmployees(),
+                run.getProcessedEmployees(),
+                run.getGeneratedCount(),
+                run.getSkippedCount(),
+                run.getFailedCount(),
+                progress,
+                run.getLastError(),
+                run.getStartedAt(),
+                run.getUpdatedAt(),
+                run.getCompletedAt()
+        );
+    }
+
+    private PayrollRun processChunk(Long runId, CompensationIndex compensation) {
+        try {
+            return transactionTemplate.execute(status -> processNextChunk(runId, compensation));
+        } catch (RuntimeException e) {
+            log.warn("Payroll run {} chunk failed, retrying it one employee at a time: {}", runId, e.toString());
+            return processNextChunkByEmployee(runId, compensation);
+        }
+    }
+
+    private PayrollRun processNextChunk(Long runId, CompensationIndex compensation) {
+        PayrollRun run = findRun(runId);
+        List<Employee> chunk = nextChunk(run);
+        if (chunk.isEmpty()) {
+            return complete(run);
+        }
+
+        List<Long> employeeIds = chunk.stream().map(Employee::getId).collect(Collectors.toList());
+        Set<Long> alreadyGenerated = alreadyGenerated(run, employeeIds);
+
+        long generated = 0;
+        for (Long employeeId : employeeIds) {
+            if (!alreadyGenerated.contains(employeeId)) {
+                salaryCalculationService.generateSalary(employeeId, run.getMonth(), run.getYear(), compensation);
+                generated++;
+            }
+        }
+        return checkpoint(run, employeeIds, generated, List.of());
+    }
+
+    /**
+     * Generates each salary of the next chunk in its own transaction and commits the
+     * checkpoint with the failures afterwards. Salaries committed before a crash are
+     * skipped as already generated when the chunk is processed again.
+     */
+    private PayrollRun processNextChunkByEmployee(Long runId, CompensationIndex compensation) {
+        PayrollRun run = transactionTemplate.execute(status -> findRun(runId));
+        List<Long> employeeIds = transactionTemplate.execute(status ->
+                nextChunk(run).stream().map(Employee::getId).collect(Collectors.toList()));
+        if (employeeIds.isEmpty()) {
+            return transactionTemplate.execute(status -> complete(findRun(runId)));
+        }
+        Set<Long> alreadyGenerated = transactionTemplate.execute(status -> alreadyGenerated(run, employeeIds));
+
+        long generated = 0;
+        List<PayrollRunFailure> failures = new ArrayList<>();
+        for (Long employeeId : employeeIds) {
+            if (alreadyGenerated.contains(employeeId)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> salaryCalculationService.generateSalary(
+                        employeeId, run.getMonth(), run.getYear(), compensation));
+                generated++;
+            } catch (RuntimeException e) {
+                log.error("Payroll run {}: salary for employee {} failed", runId, employeeId, e);
+                failures.add(new PayrollRunFailure(runId, employeeId, errorMessage(e)));
+            }
+        }
+        long generatedCount = generated;
+        return transactionTemplate.execute(status -> checkpoint(findRun(runId), employeeIds, generatedCount, failures));
+    }
+
+    private PayrollRun findRun(Long runId) {
+        return payrollRunRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Payroll run not found with id: " + runId));
+    }
+
+    private List<Employee> nextChunk(PayrollRun run) {
+        return employeeRepository.findByActiveTrueAndIdGreaterThanOrderByIdAsc(
+                run.getLastEmployeeId(), PageRequest.of(0, run.getChunkSize()));
+    }
+
+    private Set<Long> alreadyGenerated(PayrollRun run, List<Long> employeeIds) {
+        return new HashSet<>(
+                salaryRepository.findEmployeeIdsWithSalaryForMonth(employeeIds, run.getMonth(), run.getYear()));
+    }
+
+    private PayrollRun complete(PayrollRun run) {
+        run.setStatus(PayrollRun.RunStatus.COMPLETED);
+        run.setCompletedAt(LocalDateTime.now());
+        return payrollRunRepository.save(run);
+    }
+
+    /** Advances the checkpoint past the chunk; failures of an earlier attempt at it are replaced. */
+    private PayrollRun checkpoint(PayrollRun run, List<Long> employeeIds, long generated,
+                                  List<PayrollRunFailure> failures) {
+        payrollRunFailureRepository.deleteByRunIdAndEmployeeIdIn(run.getId(), employeeIds);
+        payrollRunFailureRepository.saveAll(failures);
+        run.setLastEmployeeId(employeeIds.get(employeeIds.size() - 1));
+        run.setChunksCompleted(run.getChunksCompleted() + 1);
+        run.setProcessedEmployees(run.getProcessedEmployees() + employeeIds.size());
+        run.setGeneratedCount(run.getGeneratedCount() + generated);
+        run.setFailedCount(run.getFailedCount() + failures.size());
+        run.setSkippedCount(run.getSkippedCount() + (employeeIds.size() - generated - failures.size()));
+        return payrollRunRepository.save(run);
+    }
+
+    private PayrollRun markFailed(Long runId, RuntimeException cause) {
+        log.error("Payroll run {} failed", runId, cause);
+        PayrollRun run = findRun(runId);
+        run.setStatus(PayrollRun.RunStatus.FAILED);
+        run.setLastError(errorMessage(cause));
+        return payrollRunRepository.save(run);
+    }
+
+    private static String errorMessage(RuntimeException cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
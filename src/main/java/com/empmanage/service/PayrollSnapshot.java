@@ -0,0 +1,356 @@
+package com.empmanage.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Read-only, column-oriented copy of the salaries of one month or one year. Amounts are
+ * held as cents in {@code long[]} columns and rows point at employees through an
+ * {@code int[]} index: rows are ordered by employee, so employee {@code e} owns rows
+ * {@code employeeStart[e]} up to {@code employeeStart[e + 1]}.
+ * <p>
+ * Queries work on per-employee value vectors: the column itself for a month snapshot,
+ * the employee's total for a year snapshot. Scans run in parallel chunks and only
+ * allocate per chunk, never per row.
+ */
+public final class PayrollSnapshot {
+
+    public enum Measure {
+        BASE, OVERTIME, ADVANCES, LEAVES, ABSENCES, PF, FOOD, FINAL
+    }
+
+    private static final int CHUNK = 4096;
+
+    private final int year;
+    private final Integer month;
+    private final long[] employeeIds;
+    private final String[] employeeNames;
+    private final int[] employeeStart;
+    private final int[] rowMonth;
+    private final long[][] columns;
+    private final AtomicReferenceArray<long[]> employeeValues = new AtomicReferenceArray<>(Measure.values().length);
+    private final AtomicReferenceArray<long[]> sortedValues = new AtomicReferenceArray<>(Measure.values().length);
+
+    private PayrollSnapshot(int year, Integer month, long[] employeeIds, String[] employeeNames, int[] employeeStart,
+                            int[] rowMonth, long[][] columns) {
+        this.year = year;
+        this.month = month;
+        this.employeeIds = employeeIds;
+        this.employeeNames = employeeNames;
+        this.employeeStart = employeeStart;
+        this.rowMonth = rowMonth;
+        this.columns = columns;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    /** Null for a whole-year snapshot. */
+    public Integer getMonth() {
+        return month;
+    }
+
+    public int rowCount() {
+        return rowMonth.length;
+    }
+
+    public int employeeCount() {
+        return employeeIds.length;
+    }
+
+    public long employeeId(int employee) {
+        return employeeIds[employee];
+    }
+
+    public String employeeName(int employee) {
+        return employeeNames[employee];
+    }
+
+    /** Index of the employee in this snapshot, or a negative number if it has no salary here. */
+    public int indexOf(long employeeId) {
+        return Arrays.binarySearch(employeeIds, employeeId);
+    }
+
+    /**
+     * The measure per employee, summed over the employee's rows. For a month snapshot
+     * there is one row per employee and the column is returned as is. Callers must not
+     * modify the array.
+     */
+    public long[] valuesByEmployee(Measure measure) {
+        long[] column = columns[measure.ordinal()];
+        if (column.length == employeeIds.length) {
+            return column;
+        }
+        long[] values = employeeValues.get(measure.ordinal());
+        if (values == null) {
+            long[] sums = new long[employeeIds.length];
+            range(sums.length).forEach(e -> {
+                long sum = 0;
+                for (int row = employeeStart[e]; row < employeeStart[e + 1]; row++) {
+                    sum += column[row];
+                }
+                sums[e] = sum;
+            });
+            employeeValues.compareAndSet(measure.ordinal(), null, sums);
+            values = employeeValues.get(measure.ordinal());
+        }
+        return values;
+    }
+
+    /** Per-employee values in ascending order, sorted once and kept. */
+    public long[] sortedValues(Measure measure) {
+        long[] sorted = sortedValues.get(measure.ordinal());
+        if (sorted == null) {
+            long[] copy = valuesByEmployee(measure).clone();
+            Arrays.parallelSort(copy);
+            sortedValues.compareAndSet(measure.ordinal(), null, copy);
+            sorted = sortedValues.get(measure.ordinal());
+        }
+        return sorted;
+    }
+
+    public long total(Measure measure) {
+        long[] column = columns[measure.ordinal()];
+        return chunks(column.length).mapToLong(c -> {
+            long sum = 0;
+            for (int row = c * CHUNK, end = chunkEnd(c, column.length); row < end; row++) {
+                sum += column[row];
+            }
+            return sum;
+        }).sum();
+    }
+
+    /** Nearest-rank percentile of the per-employee values, {@code p} in [0, 100]. */
+    public long percentile(Measure measure, double p) {
+        long[] sorted = sortedValues(measure);
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    /**
+     * Counts per-employee values into {@code buckets} equal-width buckets between
+     * {@code min} and {@code max}. Each chunk counts into its own array and the arrays
+     * are added up at the end.
+     */
+    public int[] histogram(Measure measure, long min, long max, int buckets) {
+        long[] values = valuesByEmployee(measure);
+        long width = Math.max(1, (max - min + buckets) / buckets);
+        return chunks(values.length).mapToObj(c -> {
+            int[] counts = new int[buckets];
+            for (int e = c * CHUNK, end = chunkEnd(c, values.length); e < end; e++) {
+                int bucket = (int) ((values[e] - min) / width);
+                counts[Math.max(0, Math.min(buckets - 1, bucket))]++;
+            }
+            return counts;
+        }).reduce(new int[buckets], (a, b) -> {
+            int[] sum = new int[buckets];
+            for (int i = 0; i < buckets; i++) {
+                sum[i] = a[i] + b[i];
+            }
+            return sum;
+        });
+    }
+
+    /** Totals per calendar month, index 1-12. */
+    public long[] totalsByMonth(Measure measure) {
+        long[] column = columns[measure.ordinal()];
+        long[] totals = new long[13];
+        for (int row = 0; row < column.length; row++) {
+            totals[rowMonth[row]] += column[row];
+        }
+        return totals;
+    }
+
+    /** Number of employees with a salary in each calendar month, index 1-12. */
+    public int[] employeesByMonth() {
+        int[] counts = new int[13];
+        for (int m : rowMonth) {
+            counts[m]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Indices of the {@code k} largest values among the employees accepted by the filter,
+     * largest first. Each chunk keeps a bounded heap of its best {@code k}; the chunk
+     * results are merged at the end.
+     */
+    public static int[] topK(long[] values, int k, IntPredicate filter) {
+        int limit = Math.max(0, Math.min(k, values.length));
+        TopK merged = chunks(values.length).mapToObj(c -> {
+            TopK top = new TopK(limit, values);
+            for (int e = c * CHUNK, end = chunkEnd(c, values.length); e < end; e++) {
+                if (filter.test(e)) {
+                    top.offer(e);
+                }
+            }
+            return top;
+        }).reduce(TopK::merge).orElseGet(() -> new TopK(limit, values));
+        return merged.sortedDescending();
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static IntStream chunks(int size) {
+        IntStream chunks = IntStream.range(0, (size + CHUNK - 1) / CHUNK);
+        return size > CHUNK ? chunks.parallel() : chunks;
+    }
+
+    private static IntStream range(int size) {
+        IntStream range = IntStream.range(0, size);
+        return size > CHUNK ? range.parallel() : range;
+    }
+
+    private static int chunkEnd(int chunk, int size) {
+        return Math.min(size, (chunk + 1) * CHUNK);
+    }
+
+    /** Min-heap of employee indices ordered by their value. */
+    private static final class TopK {
+        private final int[] heap;
+        private final long[] values;
+        private int size;
+
+        private TopK(int capacity, long[] values) {
+            this.heap = new int[capacity];
+            this.values = values;
+        }
+
+        private void offer(int index) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (size < heap.length) {
+                heap[size] = index;
+                siftUp(size++);
+            } else if (values[index] > values[heap[0]]) {
+                heap[0] = index;
+                siftDown(0);
+            }
+        }
+
+        private TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heap[i]);
+            }
+            return this;
+        }
+
+        private int[] sortedDescending() {
+            int[] result = new int[size];
+            // Pop the smallest into the last free slot until the heap is empty
+            for (int i = size - 1; i >= 0; i--) {
+                result[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (values[heap[i]] >= values[heap[parent]]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int smallest = i;
+                if (left < size && values[heap[left]] < values[heap[smallest]]) {
+                    smallest = left;
+                }
+                if (right < size && values[heap[right]] < values[heap[smallest]]) {
+                    smallest = right;
+                }
+                if (smallest == i) {
+                    return;
+                }
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+
+    /** Collects rows in employee order and builds the snapshot. */
+    static final class Builder {
+        private final int year;
+        private final Integer month;
+        private long[] employeeIds = new long[256];
+        private String[] employeeNames = new String[256];
+        private int[] employeeStart = new int[257];
+        private int employees;
+        private int[] rowMonth = new int[256];
+        private long[][] columns = new long[Measure.values().length][256];
+        private int rows;
+
+        Builder(int year, Integer month) {
+            this.year = year;
+            this.month = month;
+        }
+
+        /** Rows must arrive ordered by employee id. Amounts are in cents, indexed by {@link Measure}. */
+        void add(long employeeId, String employeeName, int rowMonthValue, long[] amounts) {
+            if (employees == 0 || employeeIds[employees - 1] != employeeId) {
+                if (employees == employeeIds.length) {
+                    employeeIds = Arrays.copyOf(employeeIds, employees * 2);
+                    employeeNames = Arrays.copyOf(employeeNames, employees * 2);
+                    employeeStart = Arrays.copyOf(employeeStart, employees * 2 + 1);
+                }
+                employeeIds[employees] = employeeId;
+                employeeNames[employees] = employeeName;
+                employeeStart[employees] = rows;
+                employees++;
+            }
+            if (rows == rowMonth.length) {
+                rowMonth = Arrays.copyOf(rowMonth, rows * 2);
+                for (int m = 0; m < columns.length; m++) {
+                    columns[m] = Arrays.copyOf(columns[m], rows * 2);
+                }
+            }
+            rowMonth[rows] = rowMonthValue;
+            for (int m = 0; m < columns.length; m++) {
+                columns[m][rows] = amounts[m];
+            }
+            rows++;
+        }
+
+        PayrollSnapshot build() {
+            int[] start = Arrays.copyOf(employeeStart, employees + 1);
+            start[employees] = rows;
+            long[][] trimmed = new long[columns.length][];
+            for (int m = 0; m < columns.length; m++) {
+                trimmed[m] = Arrays.copyOf(columns[m], rows);
+            }
+            return new PayrollSnapshot(year, month, Arrays.copyOf(employeeIds, employees),
+                    Arrays.copyOf(employeeNames, employees), start,
+                    Arrays.copyOf(rowMonth, rows), trimmed);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.response.PayslipFinalizeResponse;
+import com.empmanage.dto.response.PayslipResponse;
+import com.empmanage.dto.response.PayslipSnapshot;
+import com.empmanage.entity.Payslip;
+import com.empmanage.entity.Salary;
+import com.empmanage.entity.SalaryDetail;
+import com.empmanage.exception.ResourceNotFoundException;
+import com.empmanage.repository.PayslipRepository;
+import com.empmanage.repository.SalaryDetailRepository;
+import com.empmanage.repository.SalaryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Finalizing a salary freezes its payslip, including the SMS text, into one
+ * {@link Payslip} row. Reads of a finalized payslip are a single primary-key fetch
+ * and never touch {@code salaries} or {@code salary_details} again.
+ */
+@Service
+@RequiredArgsConstructor
+public class PayslipService {
+
+    /** Version of the {@link PayslipSnapshot} payload written by this code. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String INSERT_SQL = "INSERT INTO payslips " +
+            "(salary_id, employee_id, month, year, format_version, payload, checksum, finalized_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // A payslip a concurrent finalize stored first is kept
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL + " ON DUPLICATE KEY UPDATE salary_id = salary_id";
+
+    private final SalaryRepository salaryRepository;
+    private final SalaryDetailRepository salaryDetailRepository;
+    private final PayslipRepository payslipRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Freezes the payslip of one salary. Finalizing twice returns the payslip stored the
+     * first time, also when the two calls race.
+     */
+    @Transactional
+    public PayslipResponse finalizeSalary(Long salaryId) {
+        Payslip existing = payslipRepository.findById(salaryId).orElse(null);
+        if (existing != null) {
+            return toResponse(existing);
+        }
+        Salary salary = salaryRepository.findById(salaryId)
+                .orElseThrow(() -> new ResourceNotFoundException("Salary not found with id: " + salaryId));
+        Payslip payslip = freeze(salary, salaryDetailRepository.findBySalaryId(salaryId));
+        try {
+            jdbcTemplate.update(INSERT_SQL, insertArgs(payslip));
+        } catch (DuplicateKeyException e) {
+            // Another finalize committed its payslip since the read above
+            return toResponse(payslipRepository.findForUpdate(salaryId).orElseThrow());
+        }
+        return toResponse(payslip);
+    }
+
+    /**
+     * Freezes every salary of the month that is not finalized yet, reading their detail
+     * rows in one query.
+     */
+    @Transactional
+    public PayslipFinalizeResponse finalizeMonth(Integer month, Integer year) {
+        Set<Long> finalized = new HashSet<>(payslipRepository.findSalaryIdsByMonthAndYear(month, year));
+        List<Salary> pending = salaryRepository.findByMonthAndYear(month, year).stream()
+                .filter(salary -> !finalized.contains(salary.getId()))
+                .collect(Collectors.toList());
+        if (!pending.isEmpty()) {
+            Map<Long, List<SalaryDetail>> details = salaryDetailRepository
+                    .findBySalaryIdIn(pending.stream().map(Salary::getId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.groupingBy(detail -> detail.getSalary().getId()));
+            jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, pending.stream()
+                    .map(salary -> insertArgs(freeze(salary, details.getOrDefault(salary.getId(), List.of()))))
+                    .collect(Collectors.toList()));
+        }
+        return new PayslipFinalizeResponse(month, year, pending.size(), finalized.size());
+    }
+
+    public PayslipResponse getPayslip(Long salaryId) {
+        Payslip payslip = payslipRepository.findById(salaryId)
+                .orElseThrow(() -> new ResourceNotFoundException("No finalized payslip for salary id: " + salaryId));
+        return toResponse(payslip);
+    }
+
+    public List<PayslipResponse> getEmployeePayslips(Long employeeId) {
+        return payslipRepository.findByEmployeeIdOrderByYearDescMonthDesc(employeeId).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The salary SMS: the frozen text once the salary is finalized, otherwise rendered
+     * from the salary and its detail rows.
+     */
+    public String smsText(Salary salary) {
+        return payslipRepository.findById(salary.getId())
+                .map(payslip -> decode(payslip).getSmsText())
+                .orElseGet(() -> snapshot(salary, salaryDetailRepository.findBySalaryId(salary.getId())).getSmsText());
+    }
+
+    private Payslip freeze(Salary salary, List<SalaryDetail> details) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(snapshot(salary, details));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize payslip for salary " + salary.getId(), e);
+        }
+        Payslip payslip = new Payslip();
+        payslip.setSalaryId(salary.getId());
+        payslip.setEmployeeId(salary.getEmployee().getId());
+        payslip.setMonth(salary.getMonth());
+        payslip.setYear(salary.getYear());
+        payslip.setFormatVersion(FORMAT_VERSION);
+        payslip.setPayload(payload);
+        payslip.setChecksum(sha256(payload));
+        payslip.setFinalizedAt(LocalDateTime.now());
+        return payslip;
+    }
+
+    private static Object[] insertArgs(Payslip payslip) {
+        return new Object[]{payslip.getSalaryId(), payslip.getEmployeeId(), payslip.getMonth(), payslip.getYear(),
+                payslip.getFormatVersion(), payslip.getPayload(), payslip.getChecksum(), payslip.getFinalizedAt()};
+    }
+
+    private PayslipSnapshot snapshot(Salary salary, List<SalaryDetail> details) {
+        List<PayslipSnapshot.Line> lines = details.stream()
+                .sorted(Comparator.comparing(SalaryDetail::getDate))
+                .map(detail -> new PayslipSnapshot.Line(detail.getType().name(),
+                        detail.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                        detail.getAmount(), detail.getDescription()))
+                .collect(Collectors.toList());
+
+        PayslipSnapshot snapshot = new PayslipSnapshot();
+        snapshot.setFormatVersion(FORMAT_VERSION);
+        snapshot.setSalaryId(salary.getId());
+        snapshot.setEmployeeId(salary.getEmployee().getId());
+        snapshot.setEmployeeName(salary.getEmployee().getName());
+        snapshot.setEmployeeMobile(salary.getEmployee().getMobile());
+        snapshot.setMonth(salary.getMonth());
+        snapshot.setYear(salary.getYear());
+        snapshot.setBaseSalary(salary.getBaseSalary());
+        snapshot.setTotalOvertime(salary.getTotalOvertime());
+        snapshot.setTotalAdvances(salary.getTotalAdvances());
+        snapshot.setTotalLeaves(salary.getTotalLeaves());
+        snapshot.setAttendanceDays(salary.getAttendanceDays());
+        snapshot.setAttendanceDeduction(salary.getAttendanceDeduction());
+        snapshot.setFoodExpense(salary.getFoodExpense());
+        snapshot.setPfDeduction(salary.getPfDeduction());
+        snapshot.setFinalSalary(salary.getFinalSalary());
+        snapshot.setLines(lines);
+        snapshot.setSmsText(formatSms(snapshot));
+        return snapshot;
+    }
+
+    private PayslipResponse toResponse(Payslip payslip) {
+        return new PayslipResponse(payslip.getSalaryId(), payslip.getFormatVersion(), payslip.getFinalizedAt(),
+                payslip.getChecksum(), sha256(payslip.getPayload()).equals(payslip.getChecksum()), decode(payslip));
+    }
+
+    private PayslipSnapshot decode(Payslip payslip) {
+        if (payslip.getFormatVersion() != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported payslip format version " + payslip.getFormatVersion()
+                    + " for salary " + payslip.getSalaryId());
+        }
+        try {
+            return objectMapper.readValue(payslip.getPayload(), PayslipSnapshot.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read payslip for salary " + payslip.getSalaryId(), e);
+        }
+    }
+
+    private static String formatSms(PayslipSnapshot payslip) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append("Salary Slip - ").append(getMonthName(payslip.getMonth())).append(" ").append(payslip.getYear()).append("\n");
+        sb.append("Emp: ").append(payslip.getEmployeeName()).append("\n");
+        sb.append("Base: Rs ").append(payslip.getBaseSalary()).append("\n");
+
+        if (!payslip.getLines().isEmpty()) {
+            sb.append("\nDate-wise Details:\n");
+
+            for (PayslipSnapshot.Line line : payslip.getLines()) {
+                String dateStr = LocalDate.parse(line.getDate()).format(DateTimeFormatter.ofPattern("dd/MM"));
+                String amountStr = line.getAmount().compareTo(BigDecimal.ZERO) >= 0
+                        ? "+Rs " + line.getAmount()
+                        : "-Rs " + line.getAmount().abs();
+
+                sb.append(dateStr).append(": ").append(line.getType()).append(" ").append(amountStr);
+                if (line.getDescription() != null && !line.getDescription().isEmpty()) {
+                    sb.append(" (").append(line.getDescription()).append(")");
+                }
+                sb.append("\n");
+            }
+        }
+
+        sb.append("\nOvertime: +Rs ").append(payslip.getTotalOvertime()).append("\n");
+        sb.append("Advances: -Rs ").append(payslip.getTotalAdvances()).append("\n");
+        sb.append("PF: -Rs ").append(payslip.getPfDeduction()).append("\n");
+        sb.append("Leaves: -Rs ").append(payslip.getTotalLeaves()).append("\n");
+        if (payslip.getAttendanceDeduction() != null && payslip.getAttendanceDeduction().signum() > 0) {
+            sb.append("Absences: -Rs ").append(payslip.getAttendanceDeduction()).append("\n");
+        }
+        if (payslip.getFoodExpense() != null && payslip.getFoodExpense().signum() > 0) {
+            sb.append("Food: -Rs ").append(payslip.getFoodExpense()).append("\n");
+        }
+        sb.append("Final: Rs ").append(payslip.getFinalSalary()).append("\n");
+
+        return sb.toString();
+    }
+
+    private static String getMonthName(Integer month) {
+        String[] months = {
+            "Jan", "Feb", "Mar", "Apr", "May", "Jun",
+            "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
+        };
+        if (month >= 1 && month <= 12) {
+            return months[month - 1];
+        }
+        return "Month " + month;
+    }
+
+    private static String sha256(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,65 +1,217 @@
 package com.empmanage.service;
 
+import com.empmanage.dto.response.SalaryGeneratedEvent;
 import com.empmanage.dto.response.SalaryPreviewResponse;
+import com.empmanage.dto.response.SalaryRangePreviewResponse;
 import com.empmanage.entity.*;
+import com.empmanage.event.LiveUpdate;
 import com.empmanage.repository.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SalaryCalculationService {
 
+    private static final String FOOD_DESCRIPTION = "Canteen meals for the month";
+
+    private static final int MAX_PREVIEW_MONTHS = 24;
+
     private final EmployeeRepository employeeRepository;
-    private final AdvanceRepository advanceRepository;
+    private final AdvanceInstallmentRepository installmentRepository;
     private final LeaveRepository leaveRepository;
     private final OvertimeRepository overtimeRepository;
     private final SalaryRepository salaryRepository;
     private final SalaryDetailRepository salaryDetailRepository;
+    private final EmployeeMonthLedgerService ledgerService;
+    private final AttendanceRepository attendanceRepository;
+    private final FoodExpenseRepository foodExpenseRepository;
+    private final CompensationService compensationService;
+    private final WorkCalendarService workCalendarService;
+    private final ApplicationEventPublisher events;
 
     public SalaryPreviewResponse previewSalary(Long employeeId, Integer month, Integer year) {
+        return previewSalary(employeeId, month, year, true);
+    }
+
+    @Timed(value = "payroll.salary.preview", description = "Salary preview computation")
+    public SalaryPreviewResponse previewSalary(Long employeeId, Integer month, Integer year, boolean includeBreakdown) {
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + employeeId));
 
-        BigDecimal baseSalary = employee.getBaseSalary();
-        
-        // Get all data for the month
-        List<Overtime> overtimes = overtimeRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year);
-        List<Advance> advances = advanceRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year);
-        List<Leave> unpaidLeaves = leaveRepository.findUnpaidLeavesByEmployeeIdAndMonthAndYear(employeeId, month, year);
+        // Month totals come from the running ledger row
+        EmployeeMonthLedger ledger = ledgerService.getLedger(employeeId, month, year);
+        Attendance attendance = attendanceRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year).orElse(null);
+
+        CompensationIndex.MonthRate rate = compensationService.loadIndex(employeeId)
+                .rateFor(employee, YearMonth.of(year, month));
+        WorkCalendarService.MonthCalendar calendar = workCalendarService.month(YearMonth.of(year, month));
+        // Unpaid leaves on weekly offs and holidays are not deducted
+        int unpaidLeaveBits = ledger.getUnpaidLeaveBits() & calendar.workingBits();
+
+        SalaryPreviewResponse response = monthPreview(employee, rate, calendar, month, year, ledger.getOvertimeTotal(),
+                ledger.getAdvanceTotal(), unpaidLeaveBits, attendance, ledger.getFoodTotal());
+        if (includeBreakdown) {
+            response.setDateWiseBreakdown(buildBreakdown(
+                    overtimeRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year),
+                    installmentRepository.findDueByEmployeeIdAndMonthAndYear(employeeId, month, year),
+                    deductibleLeaves(leaveRepository.findUnpaidLeavesByEmployeeIdAndMonthAndYear(employeeId, month, year), calendar),
+                    attendance, absenceDays(calendar, unpaidLeaveBits), response,
+                    dailySalary(response.getBaseSalary(), calendar.salaryDays())));
+        }
 
-        // Calculate totals
-        BigDecimal totalOvertime = overtimes.stream()
-                .map(Overtime::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return response;
+    }
 
-        BigDecimal totalAdvances = advances.stream()
-                .map(Advance::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    /**
+     * Previews every month from {@code from} to {@code to} inclusive. Overtimes, advance
+     * installments, unpaid leaves, attendance and food are each read once for the whole range and
+     * bucketed by month, so the query count does not grow with the number of months;
+     * the compensation history is likewise read once and resolved per month. Totals are
+     * computed from the transaction rows, as {@link #generateSalary} does.
+     */
+    @Timed(value = "payroll.salary.preview.range", description = "Multi-month salary preview")
+    public SalaryRangePreviewResponse previewSalaryRange(Long employeeId, YearMonth from, YearMonth to,
+                                                         boolean includeBreakdown) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to months are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From month " + from + " is after to month " + to);
+        }
+        int months = (int) from.until(to, ChronoUnit.MONTHS) + 1;
+        if (months > MAX_PREVIEW_MONTHS) {
+            throw new IllegalArgumentException("A preview range can cover at most " + MAX_PREVIEW_MONTHS + " months");
+        }
 
-        BigDecimal unpaidLeaveDays = BigDecimal.valueOf(unpaidLeaves.size());
-        BigDecimal dailySalary = baseSalary.divide(BigDecimal.valueOf(30), 2, RoundingMode.HALF_UP);
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + employeeId));
+        CompensationIndex compensation = compensationService.loadIndex(employeeId);
+        LocalDate fromDate = from.atDay(1);
+        LocalDate toDate = to.atEndOfMonth();
+
+        List<List<Overtime>> overtimes = bucketByMonth(
+                overtimeRepository.findByEmployeeIdAndDateRange(employeeId, fromDate, toDate),
+                Overtime::getOvertimeDate, from, months);
+        int fromPeriod = from.getYear() * 100 + from.getMonthValue();
+        int toPeriod = to.getYear() * 100 + to.getMonthValue();
+        List<List<AdvanceInstallment>> installments = bucketByMonth(
+                installmentRepository.findDueByEmployeeIdAndPeriodRange(employeeId, fromPeriod, toPeriod),
+                installment -> LocalDate.of(installment.getDueYear(), installment.getDueMonth(), 1), from, months);
+        List<List<Leave>> unpaidLeaves = bucketByMonth(
+                leaveRepository.findUnpaidLeavesByEmployeeIdAndDateRange(employeeId, fromDate, toDate),
+                Leave::getLeaveDate, from, months);
+
+        Attendance[] attendances = new Attendance[months];
+        for (Attendance attendance : attendanceRepository.findByEmployeeIdAndPeriodRange(employeeId, fromPeriod, toPeriod)) {
+            attendances[monthIndex(from, attendance.getYear(), attendance.getMonth())] = attendance;
+        }
+        BigDecimal[] food = new BigDecimal[months];
+        Arrays.fill(food, BigDecimal.ZERO);
+        for (Object[] row : foodExpenseRepository.sumAmountByEmployeeIdGroupedByMonth(employeeId, fromDate, toDate)) {
+            food[monthIndex(from, ((Number) row[0]).intValue(), ((Number) row[1]).intValue())] = (BigDecimal) row[2];
+        }
+
+        List<WorkCalendarService.MonthCalendar> calendars = workCalendarService.months(from, months);
+
+        SalaryRangePreviewResponse range = new SalaryRangePreviewResponse();
+        range.setEmployeeId(employee.getId());
+        range.setEmployeeName(employee.getName());
+        range.setFromMonth(from.getMonthValue());
+        range.setFromYear(from.getYear());
+        range.setToMonth(to.getMonthValue());
+        range.setToYear(to.getYear());
+        range.setMonths(new ArrayList<>(months));
+        for (int i = 0; i < months; i++) {
+            YearMonth yearMonth = from.plusMonths(i);
+            WorkCalendarService.MonthCalendar calendar = calendars.get(i);
+            List<Leave> deductibleLeaves = deductibleLeaves(unpaidLeaves.get(i), calendar);
+            int unpaidLeaveBits = leaveBits(deductibleLeaves);
+            SalaryPreviewResponse preview = monthPreview(employee, compensation.rateFor(employee, yearMonth), calendar,
+                    yearMonth.getMonthValue(), yearMonth.getYear(),
+                    overtimes.get(i).stream().map(Overtime::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+                    installments.get(i).stream().map(AdvanceInstallment::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+                    unpaidLeaveBits, attendances[i], food[i]);
+            if (includeBreakdown) {
+                preview.setDateWiseBreakdown(buildBreakdown(overtimes.get(i), installments.get(i), deductibleLeaves,
+                        attendances[i], absenceDays(calendar, unpaidLeaveBits), preview,
+                        dailySalary(preview.getBaseSalary(), calendar.salaryDays())));
+            }
+            range.getMonths().add(preview);
+            range.setTotalBaseSalary(range.getTotalBaseSalary().add(preview.getBaseSalary()));
+            range.setTotalOvertime(range.getTotalOvertime().add(preview.getTotalOvertime()));
+            range.setTotalAdvances(range.getTotalAdvances().add(preview.getTotalAdvances()));
+            range.setTotalLeaveDeduction(range.getTotalLeaveDeduction().add(preview.getLeaveDeduction()));
+            range.setTotalAttendanceDeduction(range.getTotalAttendanceDeduction().add(preview.getAttendanceDeduction()));
+            range.setTotalFoodExpense(range.getTotalFoodExpense().add(preview.getFoodExpense()));
+            range.setTotalPfDeduction(range.getTotalPfDeduction().add(preview.getPfDeduction()));
+            range.setTotalFinalSalary(range.getTotalFinalSalary().add(preview.getFinalSalary()));
+        }
+        return range;
+    }
+
+    private SalaryPreviewResponse monthPreview(Employee employee, CompensationIndex.MonthRate rate,
+                                               WorkCalendarService.MonthCalendar calendar, Integer month, Integer year,
+                                               BigDecimal totalOvertime, BigDecimal totalAdvances,
+                                               int unpaidLeaveBits, Attendance attendance,
+                                               BigDecimal foodExpense) {
+        BigDecimal baseSalary = rate.baseSalary();
+        BigDecimal dailySalary = dailySalary(baseSalary, calendar.salaryDays());
+        BigDecimal unpaidLeaveDays = BigDecimal.valueOf(Integer.bitCount(unpaidLeaveBits));
         BigDecimal leaveDeduction = unpaidLeaveDays.multiply(dailySalary);
 
-        // Use PF amount directly from employee record
-        BigDecimal pfDeduction = employee.getPfAmount();
+        BigDecimal unpaidAbsenceDays = attendance != null
+                ? attendance.unpaidAbsenceDays(absenceDays(calendar, unpaidLeaveBits))
+                : BigDecimal.ZERO;
+        BigDecimal attendanceDeduction = unpaidAbsenceDays.multiply(dailySalary);
 
-        // Final Salary = Base Salary + Overtime - Advances - PF - Leave Deduction
-        BigDecimal finalSalary = baseSalary
-                .add(totalOvertime)
-                .subtract(totalAdvances)
-                .subtract(pfDeduction)
-                .subtract(leaveDeduction);
+        BigDecimal pfDeduction = rate.pfAmount();
+
+        BigDecimal finalSalary = finalSalary(baseSalary, totalOvertime, totalAdvances, pfDeduction,
+                leaveDeduction, attendanceDeduction, foodExpense);
+
+        SalaryPreviewResponse response = new SalaryPreviewResponse();
+        response.setEmployeeId(employee.getId());
+        response.setEmployeeName(employee.getName());
+        response.setEmployeeMobile(employee.getMobile());
+        response.setMonth(month);
+        response.setYear(year);
+        response.setBaseSalary(baseSalary);
+        response.setTotalOvertime(totalOvertime);
+        response.setTotalAdvances(totalAdvances);
+        response.setUnpaidLeaveDays(unpaidLeaveDays);
+        response.setLeaveDeduction(leaveDeduction);
+        response.setDaysInMonth(YearMonth.of(year, month).lengthOfMonth());
+        response.setWorkingDays(calendar.workingDays());
+        response.setAttendanceDays(attendance != null ? attendance.daysWorked() : null);
+        response.setUnpaidAbsenceDays(unpaidAbsenceDays);
+        response.setAttendanceDeduction(attendanceDeduction);
+        response.setFoodExpense(foodExpense);
+        response.setPfDeduction(pfDeduction);
+        response.setFinalSalary(finalSalary);
+        return response;
+    }
 
+    private List<SalaryPreviewResponse.SalaryDetailItem> buildBreakdown(List<Overtime> overtimes,
+                                                                        List<AdvanceInstallment> installments,
+                                                                        List<Leave> unpaidLeaves, Attendance attendance,
+                                                                        int absenceDays, SalaryPreviewResponse preview,
+                                                                        BigDecimal dailySalary) {
         // Create date-wise breakdown
         List<SalaryPreviewResponse.SalaryDetailItem> breakdown = new ArrayList<>();
         
@@ -73,13 +225,13 @@ public class SalaryCalculationService {
             ));
         });
 
-        // Add advance entries
-        advances.forEach(adv -> {
+        // Add advance installment entries
+        installments.forEach(installment -> {
             breakdown.add(new SalaryPreviewResponse.SalaryDetailItem(
                     "ADVANCE",
-                    adv.getAdvanceDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
-                    adv.getAmount().negate(), // Negative for deduction
-                    adv.getDescription() != null ? adv.getDescription() : "Advance"
+                    installmentDate(installment).format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    installment.getAmount().negate(), // Negative for deduction
+                    installmentDescription(installment)
             ));
         });
 
@@ -93,29 +245,110 @@ public class SalaryCalculationService {
             ));
         });
 
+        // Add unpaid absence entries straight from the attendance bitmaps
+        if (attendance != null) {
+            absenceEntries(attendance, absenceDays, dailySalary).forEach(absence -> breakdown.add(new SalaryPreviewResponse.SalaryDetailItem(
+                    "ABSENCE", absence.date().format(DateTimeFormatter.ISO_LOCAL_DATE), absence.amount(), absence.description())));
+        }
+
         // Sort by date
         breakdown.sort((a, b) -> LocalDate.parse(a.getDate()).compareTo(LocalDate.parse(b.getDate())));
 
-        SalaryPreviewResponse response = new SalaryPreviewResponse();
-        response.setEmployeeId(employee.getId());
-        response.setEmployeeName(employee.getName());
-        response.setEmployeeMobile(employee.getMobile());
-        response.setMonth(month);
-        response.setYear(year);
-        response.setBaseSalary(baseSalary);
-        response.setTotalOvertime(totalOvertime);
-        response.setTotalAdvances(totalAdvances);
-        response.setUnpaidLeaveDays(unpaidLeaveDays);
-        response.setLeaveDeduction(leaveDeduction);
-        response.setPfDeduction(pfDeduction);
-        response.setFinalSalary(finalSalary);
-        response.setDateWiseBreakdown(breakdown);
+        if (preview.getFoodExpense().signum() != 0) {
+            // One line for the month; the per-day rows are not read on the salary path
+            breakdown.add(new SalaryPreviewResponse.SalaryDetailItem("FOOD",
+                    YearMonth.of(preview.getYear(), preview.getMonth()).atEndOfMonth().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    preview.getFoodExpense().negate(), FOOD_DESCRIPTION));
+        }
+        return breakdown;
+    }
 
-        return response;
+    /**
+     * The unpaid leaves that cost pay: those on working days, one per day. The calendar
+     * is cached, so this adds no database work.
+     */
+    private static List<Leave> deductibleLeaves(List<Leave> unpaidLeaves, WorkCalendarService.MonthCalendar calendar) {
+        List<Leave> deductible = new ArrayList<>(unpaidLeaves.size());
+        int seen = 0;
+        for (Leave leave : unpaidLeaves) {
+            int dayBit = Attendance.dayBit(leave.getLeaveDate().getDayOfMonth());
+            if ((calendar.workingBits() & dayBit) != 0 && (seen & dayBit) == 0) {
+                deductible.add(leave);
+                seen |= dayBit;
+            }
+        }
+        return deductible;
+    }
+
+    private static int leaveBits(List<Leave> leaves) {
+        int bits = 0;
+        for (Leave leave : leaves) {
+            bits |= Attendance.dayBit(leave.getLeaveDate().getDayOfMonth());
+        }
+        return bits;
+    }
+
+    /**
+     * The days on which an attendance absence costs pay: working days, so absences are on
+     * the same day basis as the salary divisor, without an unpaid leave, which already
+     * deducts the day.
+     */
+    public static int absenceDays(WorkCalendarService.MonthCalendar calendar, int unpaidLeaveBits) {
+        return calendar.workingBits() & ~unpaidLeaveBits;
+    }
+
+    /** The advance's own date in the month it was given, the first of the month afterwards. */
+    private static LocalDate installmentDate(AdvanceInstallment installment) {
+        LocalDate advanceDate = installment.getAdvance().getAdvanceDate();
+        return advanceDate.getYear() == installment.getDueYear() && advanceDate.getMonthValue() == installment.getDueMonth()
+                ? advanceDate
+                : LocalDate.of(installment.getDueYear(), installment.getDueMonth(), 1);
+    }
+
+    private static String installmentDescription(AdvanceInstallment installment) {
+        Advance advance = installment.getAdvance();
+        String description = advance.getDescription() != null ? advance.getDescription() : "Advance";
+        return advance.getInstallments() > 1
+                ? description + " (installment " + installment.getInstallmentNumber() + "/" + advance.getInstallments() + ")"
+                : description;
+    }
+
+    /** Splits rows into one list per month of the range in a single pass. */
+    private static <T> List<List<T>> bucketByMonth(List<T> rows, Function<T, LocalDate> date, YearMonth from, int months) {
+        List<List<T>> buckets = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (T row : rows) {
+            LocalDate day = date.apply(row);
+            buckets.get(monthIndex(from, day.getYear(), day.getMonthValue())).add(row);
+        }
+        return buckets;
+    }
+
+    private static int monthIndex(YearMonth from, int year, int month) {
+        return (year - from.getYear()) * 12 + month - from.getMonthValue();
     }
 
+    @Timed(value = "payroll.salary.generate", description = "Salary generation including detail rows")
     @Transactional
     public Salary generateSalary(Long employeeId, Integer month, Integer year) {
+        return generate(employeeId, month, year, compensationService.loadIndex(employeeId));
+    }
+
+    /**
+     * Generates the salary with the base salary and PF in force for the month, pro-rated
+     * when they changed mid-month. Payroll runs pass an index loaded once for the run.
+     */
+    @Timed(value = "payroll.salary.generate", description = "Salary generation including detail rows")
+    @Transactional
+    public Salary generateSalary(Long employeeId, Integer month, Integer year, CompensationIndex compensation) {
+        return generate(employeeId, month, year, compensation);
+    }
+
+    // Both overloads are proxied entry points; sharing this body keeps either from calling
+    // the other on this, which would bypass the proxy and its timer
+    private Salary generate(Long employeeId, Integer month, Integer year, CompensationIndex compensation) {
         // Check if salary already exists
         if (salaryRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year).isPresent()) {
             throw new IllegalArgumentException("Salary for employee " + employeeId + 
@@ -125,35 +358,43 @@ public class SalaryCalculationService {
         Employee employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("Employee not found with id: " + employeeId));
 
-        BigDecimal baseSalary = employee.getBaseSalary();
+        CompensationIndex.MonthRate rate = compensation.rateFor(employee, YearMonth.of(year, month));
+        BigDecimal baseSalary = rate.baseSalary();
         
         // Get all data for the month
         List<Overtime> overtimes = overtimeRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year);
-        List<Advance> advances = advanceRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year);
-        List<Leave> unpaidLeaves = leaveRepository.findUnpaidLeavesByEmployeeIdAndMonthAndYear(employeeId, month, year);
+        // Installments due this month, from the due-month index
+        List<AdvanceInstallment> installments = installmentRepository.findDueByEmployeeIdAndMonthAndYear(employeeId, month, year);
+        WorkCalendarService.MonthCalendar calendar = workCalendarService.month(YearMonth.of(year, month));
+        List<Leave> unpaidLeaves = deductibleLeaves(
+                leaveRepository.findUnpaidLeavesByEmployeeIdAndMonthAndYear(employeeId, month, year), calendar);
 
         // Calculate totals
         BigDecimal totalOvertime = overtimes.stream()
                 .map(Overtime::getTotalAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        BigDecimal totalAdvances = advances.stream()
-                .map(Advance::getAmount)
+        BigDecimal totalAdvances = installments.stream()
+                .map(AdvanceInstallment::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         BigDecimal unpaidLeaveDays = BigDecimal.valueOf(unpaidLeaves.size());
-        BigDecimal dailySalary = baseSalary.divide(BigDecimal.valueOf(30), 2, RoundingMode.HALF_UP);
+        BigDecimal dailySalary = dailySalary(baseSalary, calendar.salaryDays());
         BigDecimal leaveDeduction = unpaidLeaveDays.multiply(dailySalary);
 
-        // Use PF amount directly from employee record
-        BigDecimal pfDeduction = employee.getPfAmount();
+        Attendance attendance = attendanceRepository.findByEmployeeIdAndMonthAndYear(employeeId, month, year).orElse(null);
+        int absenceDays = absenceDays(calendar, leaveBits(unpaidLeaves));
+        BigDecimal attendanceDeduction = attendance != null
+                ? attendance.unpaidAbsenceDays(absenceDays).multiply(dailySalary)
+                : BigDecimal.ZERO;
 
-        // Final Salary = Base Salary + Overtime - Advances - PF - Leave Deduction
-        BigDecimal finalSalary = baseSalary
-                .add(totalOvertime)
-                .subtract(totalAdvances)
-                .subtract(pfDeduction)
-                .subtract(leaveDeduction);
+        // Food has no detail rows per day on the salary path; its total comes from the ledger
+        BigDecimal foodExpense = ledgerService.getLedger(employeeId, month, year).getFoodTotal();
+
+        BigDecimal pfDeduction = rate.pfAmount();
+
+        BigDecimal finalSalary = finalSalary(baseSalary, totalOvertime, totalAdvances, pfDeduction,
+                leaveDeduction, attendanceDeduction, foodExpense);
 
         // Create and save Salary entity
         Salary salary = new Salary();
@@ -164,6 +405,9 @@ public class SalaryCalculationService {
         salary.setTotalOvertime(totalOvertime);
         salary.setTotalAdvances(totalAdvances);
         salary.setTotalLeaves(leaveDeduction);
+        salary.setAttendanceDays(attendance != null ? attendance.daysWorked() : null);
+        salary.setAttendanceDeduction(attendanceDeduction);
+        salary.setFoodExpense(foodExpense);
         salary.setPfDeduction(pfDeduction);
         salary.setFinalSalary(finalSalary);
         salary.setSmsSent(false);
@@ -184,15 +428,19 @@ public class SalaryCalculationService {
             details.add(detail);
         });
 
-        // Add advance details
-        advances.forEach(adv -> {
+        // Add advance details and mark the installments repaid by this salary
+        installments.forEach(installment -> {
             SalaryDetail detail = new SalaryDetail();
             detail.setSalary(savedSalary);
             detail.setType(SalaryDetail.DetailType.ADVANCE);
-            detail.setDate(adv.getAdvanceDate());
-            detail.setAmount(adv.getAmount().negate());
-            detail.setDescription(adv.getDescription() != null ? adv.getDescription() : "Advance");
+            detail.setDate(installmentDate(installment));
+            detail.setAmount(installment.getAmount().negate());
+            detail.setDescription(installmentDescription(installment));
             details.add(detail);
+
+            installment.setSalaryId(savedSalary.getId());
+            Advance advance = installment.getAdvance();
+            advance.setOutstandingAmount(advance.getOutstandingAmount().subtract(installment.getAmount()));
         });
 
         // Add unpaid leave details
@@ -206,11 +454,72 @@ public class SalaryCalculationService {
             details.add(detail);
         });
 
+        // Add unpaid absence details
+        if (attendance != null) {
+            absenceEntries(attendance, absenceDays, dailySalary).forEach(absence -> {
+                SalaryDetail detail = new SalaryDetail();
+                detail.setSalary(savedSalary);
+                detail.setType(SalaryDetail.DetailType.ABSENCE);
+                detail.setDate(absence.date());
+                detail.setAmount(absence.amount());
+                detail.setDescription(absence.description());
+                details.add(detail);
+            });
+        }
+
+        if (foodExpense.signum() != 0) {
+            SalaryDetail detail = new SalaryDetail();
+            detail.setSalary(savedSalary);
+            detail.setType(SalaryDetail.DetailType.FOOD);
+            detail.setDate(YearMonth.of(year, month).atEndOfMonth());
+            detail.setAmount(foodExpense.negate());
+            detail.setDescription(FOOD_DESCRIPTION);
+            details.add(detail);
+        }
+
         salaryDetailRepository.saveAll(details);
 
+        events.publishEvent(new LiveUpdate(LiveUpdate.SALARY_GENERATED, new SalaryGeneratedEvent(
+                savedSalary.getId(), employeeId, employee.getName(), month, year, finalSalary)));
         return savedSalary;
     }
 
+    public static BigDecimal dailySalary(BigDecimal baseSalary, int salaryDays) {
+        return baseSalary.divide(BigDecimal.valueOf(salaryDays), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Final Salary = Base Salary + Overtime - Advances - PF - Leave Deduction - Absence Deduction - Food
+     */
+    public static BigDecimal finalSalary(BigDecimal baseSalary, BigDecimal totalOvertime, BigDecimal totalAdvances,
+                                         BigDecimal pfDeduction, BigDecimal leaveDeduction,
+                                         BigDecimal attendanceDeduction, BigDecimal foodExpense) {
+        return baseSalary
+                .add(totalOvertime)
+                .subtract(totalAdvances)
+                .subtract(pfDeduction)
+                .subtract(leaveDeduction)
+                .subtract(attendanceDeduction)
+                .subtract(foodExpense);
+    }
+
+    private record AbsenceEntry(LocalDate date, BigDecimal amount, String description) {
+    }
+
+    private List<AbsenceEntry> absenceEntries(Attendance attendance, int absenceDays, BigDecimal dailySalary) {
+        List<AbsenceEntry> entries = new ArrayList<>();
+        BigDecimal halfDaySalary = dailySalary.multiply(new BigDecimal("0.5"));
+        for (int day : Attendance.days(attendance.getAbsentBits() & absenceDays)) {
+            entries.add(new AbsenceEntry(LocalDate.of(attendance.getYear(), attendance.getMonth(), day),
+                    dailySalary.negate(), "Unpaid Absence"));
+        }
+        for (int day : Attendance.days(attendance.getHalfDayBits() & absenceDays)) {
+            entries.add(new AbsenceEntry(LocalDate.of(attendance.getYear(), attendance.getMonth(), day),
+                    halfDaySalary.negate(), "Half Day"));
+        }
+        return entries;
+    }
+
     public List<Salary> getSalaryHistory(Long employeeId) {
         return salaryRepository.findByEmployeeIdOrderByYearDescMonthDesc(employeeId);
     }
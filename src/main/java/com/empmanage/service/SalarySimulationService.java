@@ -0,0 +1,193 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.request.SalarySimulationRequest;
+import com.empmanage.dto.response.SalarySimulationResponse;
+import com.empmanage.entity.Attendance;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * What-if payroll: recomputes every selected employee's month with and without the
+ * requested overrides, using the same formula as {@link SalaryCalculationService}.
+ * All inputs come from one query over employees, the month ledger and attendance plus
+ * the cached work calendar, and the recomputation is a fork/join pass over that list.
+ * Nothing is written.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalarySimulationService {
+
+    private static final int SPLIT_THRESHOLD = 1024;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private static final String INPUT_SQL = "SELECT e.id, e.name, e.base_salary, e.pf_amount, " +
+            "COALESCE(l.overtime_total, 0), COALESCE(l.advance_total, 0), COALESCE(l.unpaid_leave_bits, 0), " +
+            "COALESCE(l.food_total, 0), COALESCE(a.absent_bits, 0), COALESCE(a.half_day_bits, 0) " +
+            "FROM employees e " +
+            "LEFT JOIN employee_month_ledger l ON l.employee_id = e.id AND l.month = ? AND l.year = ? " +
+            "LEFT JOIN attendances a ON a.employee_id = e.id AND a.month = ? AND a.year = ? " +
+            "WHERE e.active = true ORDER BY e.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkCalendarService workCalendarService;
+
+    @Timed(value = "payroll.salary.simulate", description = "What-if payroll simulation")
+    public SalarySimulationResponse simulate(SalarySimulationRequest request) {
+        if (request.getMinBaseSalary() != null && request.getMaxBaseSalary() != null
+                && request.getMinBaseSalary().compareTo(request.getMaxBaseSalary()) > 0) {
+            throw new IllegalArgumentException("Minimum base salary cannot be greater than maximum base salary");
+        }
+        long started = System.nanoTime();
+        Integer month = request.getMonth();
+        Integer year = request.getYear();
+
+        WorkCalendarService.MonthCalendar calendar = workCalendarService.month(YearMonth.of(year, month));
+        List<Input> inputs = loadInputs(request, calendar);
+        boolean includeEmployees = !Boolean.FALSE.equals(request.getIncludeEmployees());
+        SalarySimulationResponse.Entry[] entries = includeEmployees
+                ? new SalarySimulationResponse.Entry[inputs.size()]
+                : null;
+        Totals totals = ForkJoinPool.commonPool()
+                .invoke(new SimulationTask(inputs, request, calendar.salaryDays(), entries, 0, inputs.size()));
+
+        return new SalarySimulationResponse(month, year, inputs.size(),
+                totals.currentBase(), totals.simulatedBase(), totals.currentPf(), totals.simulatedPf(),
+                totals.currentFinal(), totals.simulatedFinal(),
+                totals.simulatedFinal().subtract(totals.currentFinal()),
+                (System.nanoTime() - started) / 1_000_000,
+                entries != null ? Arrays.asList(entries) : null);
+    }
+
+    private List<Input> loadInputs(SalarySimulationRequest request, WorkCalendarService.MonthCalendar calendar) {
+        Set<Long> employeeIds = request.getEmployeeIds() != null && !request.getEmployeeIds().isEmpty()
+                ? new HashSet<>(request.getEmployeeIds())
+                : null;
+        BigDecimal min = request.getMinBaseSalary();
+        BigDecimal max = request.getMaxBaseSalary();
+
+        List<Input> inputs = jdbcTemplate.query(INPUT_SQL, (rs, rowNum) -> {
+            Attendance attendance = new Attendance();
+            attendance.setAbsentBits(rs.getInt(9));
+            attendance.setHalfDayBits(rs.getInt(10));
+            // Unpaid leaves on weekly offs and holidays are not deducted
+            int unpaidLeaveBits = rs.getInt(7) & calendar.workingBits();
+            return new Input(rs.getLong(1), rs.getString(2), rs.getBigDecimal(3), rs.getBigDecimal(4),
+                    rs.getBigDecimal(5), rs.getBigDecimal(6), BigDecimal.valueOf(Integer.bitCount(unpaidLeaveBits)),
+                    rs.getBigDecimal(8),
+                    attendance.unpaidAbsenceDays(SalaryCalculationService.absenceDays(calendar, unpaidLeaveBits)));
+        }, request.getMonth(), request.getYear(), request.getMonth(), request.getYear());
+
+        if (employeeIds == null && min == null && max == null) {
+            return inputs;
+        }
+        return inputs.stream()
+                .filter(input -> employeeIds == null || employeeIds.contains(input.employeeId()))
+                .filter(input -> min == null || input.baseSalary().compareTo(min) >= 0)
+                .filter(input -> max == null || input.baseSalary().compareTo(max) <= 0)
+                .toList();
+    }
+
+    private static BigDecimal simulatedBaseSalary(BigDecimal baseSalary, SalarySimulationRequest request) {
+        BigDecimal simulated = baseSalary;
+        if (request.getBaseSalaryPercent() != null) {
+            simulated = simulated.multiply(HUNDRED.add(request.getBaseSalaryPercent()))
+                    .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+        }
+        if (request.getBaseSalaryChange() != null) {
+            simulated = simulated.add(request.getBaseSalaryChange());
+        }
+        return simulated.max(BigDecimal.ZERO);
+    }
+
+    private static BigDecimal monthSalary(Input input, BigDecimal baseSalary, BigDecimal pfAmount, int salaryDays) {
+        BigDecimal dailySalary = SalaryCalculationService.dailySalary(baseSalary, salaryDays);
+        return SalaryCalculationService.finalSalary(baseSalary, input.overtime(), input.advances(), pfAmount,
+                input.unpaidLeaveDays().multiply(dailySalary), input.unpaidAbsenceDays().multiply(dailySalary),
+                input.food());
+    }
+
+    private record Input(Long employeeId, String employeeName, BigDecimal baseSalary, BigDecimal pfAmount,
+                         BigDecimal overtime, BigDecimal advances, BigDecimal unpaidLeaveDays, BigDecimal food,
+                         BigDecimal unpaidAbsenceDays) {
+    }
+
+    private record Totals(BigDecimal currentBase, BigDecimal simulatedBase, BigDecimal currentPf,
+                          BigDecimal simulatedPf, BigDecimal currentFinal, BigDecimal simulatedFinal) {
+
+        Totals plus(Totals other) {
+            return new Totals(currentBase.add(other.currentBase), simulatedBase.add(other.simulatedBase),
+                    currentPf.add(other.currentPf), simulatedPf.add(other.simulatedPf),
+                    currentFinal.add(other.currentFinal), simulatedFinal.add(other.simulatedFinal));
+        }
+    }
+
+    /** Splits the employee range in halves until it is small enough to compute in one go. */
+    private static final class SimulationTask extends RecursiveTask<Totals> {
+        private final List<Input> inputs;
+        private final SalarySimulationRequest request;
+        private final int salaryDays;
+        private final SalarySimulationResponse.Entry[] entries;
+        private final int from;
+        private final int to;
+
+        private SimulationTask(List<Input> inputs, SalarySimulationRequest request, int salaryDays,
+                               SalarySimulationResponse.Entry[] entries, int from, int to) {
+            this.inputs = inputs;
+            this.request = request;
+            this.salaryDays = salaryDays;
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                SimulationTask left = new SimulationTask(inputs, request, salaryDays, entries, from, middle);
+                left.fork();
+                Totals right = new SimulationTask(inputs, request, salaryDays, entries, middle, to).compute();
+                return left.join().plus(right);
+            }
+
+            int simulatedSalaryDays = request.getLeaveDivisor() != null ? request.getLeaveDivisor() : salaryDays;
+            BigDecimal currentBase = BigDecimal.ZERO;
+            BigDecimal simulatedBase = BigDecimal.ZERO;
+            BigDecimal currentPf = BigDecimal.ZERO;
+            BigDecimal simulatedPf = BigDecimal.ZERO;
+            BigDecimal currentFinal = BigDecimal.ZERO;
+            BigDecimal simulatedFinal = BigDecimal.ZERO;
+            for (int i = from; i < to; i++) {
+                Input input = inputs.get(i);
+                BigDecimal base = simulatedBaseSalary(input.baseSalary(), request);
+                BigDecimal pf = request.getPfAmount() != null ? request.getPfAmount() : input.pfAmount();
+                BigDecimal current = monthSalary(input, input.baseSalary(), input.pfAmount(), salaryDays);
+                BigDecimal simulated = monthSalary(input, base, pf, simulatedSalaryDays);
+
+                currentBase = currentBase.add(input.baseSalary());
+                simulatedBase = simulatedBase.add(base);
+                currentPf = currentPf.add(input.pfAmount());
+                simulatedPf = simulatedPf.add(pf);
+                currentFinal = currentFinal.add(current);
+                simulatedFinal = simulatedFinal.add(simulated);
+                if (entries != null) {
+                    entries[i] = new SalarySimulationResponse.Entry(input.employeeId(), input.employeeName(),
+                            input.baseSalary(), base, current, simulated, simulated.subtract(current));
+                }
+            }
+            return new Totals(currentBase, simulatedBase, currentPf, simulatedPf, currentFinal, simulatedFinal);
+        }
+    }
+}
@@ -1,29 +1,42 @@
 package com.empmanage.service;
 
+import com.empmanage.config.RequestTiming;
+import com.empmanage.dto.response.SmsDispatchResponse;
+import com.empmanage.dto.response.SmsProgressEvent;
 import com.empmanage.entity.Salary;
-import com.empmanage.entity.SalaryDetail;
-import com.empmanage.repository.SalaryDetailRepository;
+import com.empmanage.event.LiveUpdate;
 import com.empmanage.repository.SalaryRepository;
 import com.twilio.Twilio;
 import com.twilio.rest.api.v2010.account.Message;
 import com.twilio.type.PhoneNumber;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
 public class SmsService {
 
+    private static final Logger log = LoggerFactory.getLogger(SmsService.class);
+
     private final SalaryRepository salaryRepository;
-    private final SalaryDetailRepository salaryDetailRepository;
+    private final PayslipService payslipService;
+    private final LeaseService leaseService;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher events;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${twilio.account.sid}")
     private String accountSid;
@@ -34,10 +47,26 @@ public class SmsService {
     @Value("${twilio.phone.number}")
     private String twilioPhoneNumber;
 
+    @Value("${sms.dispatch.concurrency:4}")
+    private int dispatchConcurrency;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private volatile boolean twilioInitialized;
+
+    /**
+     * Initializes the Twilio client on first use rather than at startup. A concurrent
+     * first call may initialize twice, which is harmless.
+     */
     public void initializeTwilio() {
+        if (twilioInitialized) {
+            return;
+        }
         if (accountSid != null && !accountSid.trim().isEmpty() && 
             authToken != null && !authToken.trim().isEmpty()) {
             Twilio.init(accountSid.trim(), authToken.trim());
+            twilioInitialized = true;
         }
     }
 
@@ -51,8 +80,11 @@ public class SmsService {
             throw new IllegalArgumentException("Employee mobile number is not available");
         }
 
-        String smsContent = formatSalarySms(salary);
+        String smsContent = payslipService.smsText(salary);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        String errorCode = "other";
         try {
             initializeTwilio();
             
@@ -91,9 +123,12 @@ public class SmsService {
             salary.setSmsSent(true);
             salary.setSmsSentAt(java.time.LocalDateTime.now());
             salaryRepository.save(salary);
+            outcome = "success";
+            errorCode = "none";
             
         } catch (com.twilio.exception.ApiException e) {
             // Handle Twilio-specific errors
+            errorCode = e.getCode() != null ? String.valueOf(e.getCode()) : "unknown";
             String errorMessage = "Twilio API Error: " + e.getMessage();
             if (e.getCode() == 21659) {
                 errorMessage = "Country mismatch: The Twilio phone number country must match the recipient phone number country. " +
@@ -103,48 +138,60 @@ public class SmsService {
             throw new RuntimeException(errorMessage, e);
         } catch (Exception e) {
             throw new RuntimeException("Failed to send SMS: " + e.getMessage(), e);
+        } finally {
+            long elapsed = sample.stop(Timer.builder("sms.salary.send")
+                    .description("Twilio salary SMS send")
+                    .tag("outcome", outcome)
+                    .tag("error.code", errorCode)
+                    .register(meterRegistry));
+            RequestTiming.recordSms(elapsed);
         }
     }
 
-    private String formatSalarySms(Salary salary) {
-        StringBuilder sb = new StringBuilder();
-        
-        sb.append("Salary Slip - ").append(getMonthName(salary.getMonth())).append(" ").append(salary.getYear()).append("\n");
-        sb.append("Emp: ").append(salary.getEmployee().getName()).append("\n");
-        sb.append("Base: Rs ").append(salary.getBaseSalary()).append("\n");
-        
-        // Get salary details sorted by date
-        List<SalaryDetail> details = salaryDetailRepository.findBySalaryId(salary.getId())
-                .stream()
-                .sorted(Comparator.comparing(SalaryDetail::getDate))
-                .collect(Collectors.toList());
-
-        // Group by type and date
-        if (!details.isEmpty()) {
-            sb.append("\nDate-wise Details:\n");
-            
-            for (SalaryDetail detail : details) {
-                String dateStr = detail.getDate().format(DateTimeFormatter.ofPattern("dd/MM"));
-                String typeStr = detail.getType().name();
-                String amountStr = detail.getAmount().compareTo(BigDecimal.ZERO) >= 0 
-                        ? "+Rs " + detail.getAmount() 
-                        : "-Rs " + detail.getAmount().abs();
-                
-                sb.append(dateStr).append(": ").append(typeStr).append(" ").append(amountStr);
-                if (detail.getDescription() != null && !detail.getDescription().isEmpty()) {
-                    sb.append(" (").append(detail.getDescription()).append(")");
+    /**
+     * Sends the salary SMS for every salary of the month that has not been sent yet.
+     * Holds the month's SMS dispatch lease so no two nodes send the same messages.
+     * Sends run in parallel, at most {@code sms.dispatch.concurrency} at a time, on
+     * virtual threads when they are enabled, each in its own transaction. Each send and the
+     * final totals are published as live updates.
+     */
+    public SmsDispatchResponse sendPendingSalarySms(Integer month, Integer year) {
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        boolean ran = leaseService.runExclusively(LeaseService.SMS_DISPATCH_JOB, LeaseService.monthKey(month, year), lease -> {
+            Semaphore permits = new Semaphore(dispatchConcurrency);
+            try (ExecutorService executor = virtualThreads
+                    ? Executors.newVirtualThreadPerTaskExecutor()
+                    : Executors.newFixedThreadPool(dispatchConcurrency)) {
+                for (Salary salary : salaryRepository.findByMonthAndYearAndSmsSentFalse(month, year)) {
+                    permits.acquireUninterruptibly();
+                    executor.execute(() -> {
+                        try {
+                            // A self-call would skip @Transactional, so the template opens the transaction
+                            transactionTemplate.executeWithoutResult(status -> sendSalarySms(salary.getId()));
+                            sent.incrementAndGet();
+                            events.publishEvent(new LiveUpdate(LiveUpdate.SMS_SENT, smsProgress(salary, null)));
+                        } catch (Exception e) {
+                            log.warn("Failed to send SMS for salary {}: {}", salary.getId(), e.getMessage());
+                            failed.incrementAndGet();
+                            events.publishEvent(new LiveUpdate(LiveUpdate.SMS_FAILED, smsProgress(salary, e.getMessage())));
+                        } finally {
+                            permits.release();
+                        }
+                    });
                 }
-                sb.append("\n");
             }
+        });
+        if (!ran) {
+            throw new IllegalArgumentException("SMS dispatch for " + month + "/" + year + " is already running on another node");
         }
+        SmsDispatchResponse response = new SmsDispatchResponse(month, year, sent.get(), failed.get());
+        events.publishEvent(new LiveUpdate(LiveUpdate.SMS_DISPATCH, response));
+        return response;
+    }
 
-        sb.append("\nOvertime: +Rs ").append(salary.getTotalOvertime()).append("\n");
-        sb.append("Advances: -Rs ").append(salary.getTotalAdvances()).append("\n");
-        sb.append("PF: -Rs ").append(salary.getPfDeduction()).append("\n");
-        sb.append("Leaves: -Rs ").append(salary.getTotalLeaves()).append("\n");
-        sb.append("Final: Rs ").append(salary.getFinalSalary()).append("\n");
-        
-        return sb.toString();
+    private SmsProgressEvent smsProgress(Salary salary, String error) {
+        return new SmsProgressEvent(salary.getId(), salary.getEmployee().getId(), salary.getMonth(), salary.getYear(), error);
     }
 
     private String formatPhoneNumber(String mobile) {
@@ -228,16 +275,5 @@ public class SmsService {
         // Return as is if it already has +
         return cleaned.startsWith("+") ? cleaned : "+" + digits;
     }
-
-    private String getMonthName(Integer month) {
-        String[] months = {
-            "Jan", "Feb", "Mar", "Apr", "May", "Jun",
-            "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"
-        };
-        if (month >= 1 && month <= 12) {
-            return months[month - 1];
-        }
-        return "Month " + month;
-    }
 }
 
@@ -0,0 +1,193 @@
+package com.empmanage.service;
+
+import com.empmanage.dto.request.HolidayRequest;
+import com.empmanage.dto.response.WorkCalendarResponse;
+import com.empmanage.entity.Attendance;
+import com.empmanage.entity.Holiday;
+import com.empmanage.event.LiveUpdate;
+import com.empmanage.exception.ResourceNotFoundException;
+import com.empmanage.repository.HolidayRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Working days per month as day bitmaps (bit {@code day - 1}, as in {@link Attendance}):
+ * the configured weekly offs plus declared holidays. A month's bitmaps are computed on
+ * first use from one holiday query and kept for {@code calendar.cache-ttl-seconds}, so
+ * payroll for any number of employees reads the calendar from memory. A holiday edit
+ * drops its month at once on the node that made it; other nodes reload the month once
+ * their copy expires.
+ */
+@Service
+public class WorkCalendarService {
+
+    /** Weekly offs and holidays of one month; a day can be both. */
+    public record MonthCalendar(int weeklyOffBits, int holidayBits, int allDayBits) {
+
+        public int workingBits() {
+            return allDayBits & ~(weeklyOffBits | holidayBits);
+        }
+
+        public int workingDays() {
+            return Integer.bitCount(workingBits());
+        }
+
+        public boolean isWorkingDay(int day) {
+            return (workingBits() & Attendance.dayBit(day)) != 0;
+        }
+
+        /** What a monthly salary is divided by: the working days, or every day if there are none. */
+        public int salaryDays() {
+            int workingDays = workingDays();
+            return workingDays > 0 ? workingDays : Integer.bitCount(allDayBits);
+        }
+    }
+
+    private record Cached(MonthCalendar calendar, long loadedAt) {
+    }
+
+    private final HolidayRepository holidayRepository;
+    private final ApplicationEventPublisher events;
+    private final Set<DayOfWeek> weeklyOffs;
+    private final long ttlNanos;
+    private final Map<Integer, Cached> months = new ConcurrentHashMap<>();
+
+    public WorkCalendarService(HolidayRepository holidayRepository,
+                               ApplicationEventPublisher events,
+                               @Value("${calendar.weekly-offs:SUNDAY}") String weeklyOffs,
+                               @Value("${calendar.cache-ttl-seconds:60}") long ttlSeconds) {
+        this.holidayRepository = holidayRepository;
+        this.events = events;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.weeklyOffs = EnumSet.noneOf(DayOfWeek.class);
+        Arrays.stream(weeklyOffs.split(","))
+                .map(String::trim)
+                .filter(day -> !day.isEmpty())
+                .map(day -> DayOfWeek.valueOf(day.toUpperCase()))
+                .forEach(this.weeklyOffs::add);
+    }
+
+    public MonthCalendar month(YearMonth month) {
+        return months.compute(key(month), (k, cached) -> fresh(cached) ? cached : load(month,
+                holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(month.atDay(1), month.atEndOfMonth())))
+                .calendar();
+    }
+
+    /**
+     * Calendars of {@code count} consecutive months from {@code from}. Months not cached,
+     * or expired, are built from a single holiday query over the whole range.
+     */
+    public List<MonthCalendar> months(YearMonth from, int count) {
+        YearMonth to = from.plusMonths(count - 1);
+        List<Holiday> holidays = null;
+        List<MonthCalendar> calendars = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            YearMonth month = from.plusMonths(i);
+            Cached cached = months.get(key(month));
+            if (!fresh(cached)) {
+                if (holidays == null) {
+                    holidays = holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(
+                            from.atDay(1), to.atEndOfMonth());
+                }
+                List<Holiday> monthHolidays = holidays.stream()
+                        .filter(holiday -> YearMonth.from(holiday.getHolidayDate()).equals(month))
+                        .toList();
+                cached = months.compute(key(month),
+                        (k, current) -> fresh(current) ? current : load(month, monthHolidays));
+            }
+            calendars.add(cached.calendar());
+        }
+        return calendars;
+    }
+
+    public WorkCalendarResponse getCalendar(Integer month, Integer year) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        YearMonth yearMonth = YearMonth.of(year, month);
+        MonthCalendar calendar = month(yearMonth);
+        return new WorkCalendarResponse(month, year, yearMonth.lengthOfMonth(), calendar.workingDays(),
+                Attendance.days(calendar.weeklyOffBits()), Attendance.days(calendar.holidayBits()));
+    }
+
+    public List<Holiday> getHolidays(Integer year) {
+        return holidayRepository.findByHolidayDateBetweenOrderByHolidayDate(
+                LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
+
+    @Transactional
+    public Holiday addHoliday(HolidayRequest request) {
+        if (holidayRepository.existsByHolidayDate(request.getHolidayDate())) {
+            throw new IllegalArgumentException("A holiday is already declared on " + request.getHolidayDate());
+        }
+        Holiday holiday = new Holiday();
+        holiday.setHolidayDate(request.getHolidayDate());
+        holiday.setName(request.getName());
+        Holiday saved = holidayRepository.save(holiday);
+        changed(saved.getHolidayDate());
+        return saved;
+    }
+
+    @Transactional
+    public void deleteHoliday(Long id) {
+        Holiday holiday = holidayRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Holiday not found with id: " + id));
+        holidayRepository.delete(holiday);
+        changed(holiday.getHolidayDate());
+    }
+
+    /**
+     * Drops the month again once the edit commits or rolls back, in case it was reloaded
+     * in between from rows that are not, or no longer, committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onLiveUpdate(LiveUpdate update) {
+        if (LiveUpdate.CALENDAR_CHANGED.equals(update.getType()) && update.getData() instanceof LocalDate date) {
+            months.remove(key(YearMonth.from(date)));
+        }
+    }
+
+    private void changed(LocalDate date) {
+        months.remove(key(YearMonth.from(date)));
+        events.publishEvent(new LiveUpdate(LiveUpdate.CALENDAR_CHANGED, date));
+    }
+
+    private boolean fresh(Cached cached) {
+        return cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos;
+    }
+
+    private Cached load(YearMonth month, List<Holiday> holidays) {
+        int allDays = (int) ((1L << month.lengthOfMonth()) - 1);
+        int weeklyOffBits = 0;
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if (weeklyOffs.contains(month.atDay(day).getDayOfWeek())) {
+                weeklyOffBits |= Attendance.dayBit(day);
+            }
+        }
+        int holidayBits = 0;
+        for (Holiday holiday : holidays) {
+            holidayBits |= Attendance.dayBit(holiday.getHolidayDate().getDayOfMonth());
+        }
+        return new Cached(new MonthCalendar(weeklyOffBits, holidayBits, allDays), System.nanoTime());
+    }
+
+    private static Integer key(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+}
@@ -184,6 +184,22 @@ class EndToEndFlowComponentTest {
                         employeeId, now.getMonthValue(), now.getYear()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.length()").value(1));
+
+        // Step 12: Conflicting entries are rejected
+        LeaveRequest overtimeDayLeave = new LeaveRequest();
+        overtimeDayLeave.setEmployeeId(employeeId);
+        overtimeDayLeave.setLeaveDate(overtimeRequest.getOvertimeDate());
+        overtimeDayLeave.setLeaveType(com.empmanage.entity.Leave.LeaveType.UNPAID);
+
+        mockMvc.perform(post("/api/leaves")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(overtimeDayLeave)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/leaves")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(leaveRequest)))
+                .andExpect(status().isBadRequest());
     }
 }
 
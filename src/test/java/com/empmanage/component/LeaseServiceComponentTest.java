@@ -0,0 +1,99 @@
+package com.empmanage.component;
+
+import com.empmanage.service.LeaseService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lease;MODE=MySQL;NON_KEYWORDS=MONTH,YEAR;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "twilio.account.sid=",
+        "twilio.auth.token=",
+        "twilio.phone.number="
+})
+@DisplayName("Lease Service Component Test")
+class LeaseServiceComponentTest {
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Test
+    @DisplayName("A second acquisition on the same node is refused until the first is released")
+    void leaseIsNotReentrant() {
+        LeaseService.Lease first = leaseService.tryAcquire(LeaseService.PAYROLL_JOB, "2026-01");
+        assertNotNull(first);
+        try {
+            assertNull(leaseService.tryAcquire(LeaseService.PAYROLL_JOB, "2026-01"));
+            assertFalse(leaseService.runExclusively(LeaseService.PAYROLL_JOB, "2026-01", lease -> fail("ran twice")));
+        } finally {
+            leaseService.release(first);
+        }
+
+        LeaseService.Lease second = leaseService.tryAcquire(LeaseService.PAYROLL_JOB, "2026-01");
+        assertNotNull(second);
+        leaseService.release(second);
+    }
+
+    @Test
+    @DisplayName("Concurrent acquisitions on one node yield exactly one holder")
+    void concurrentAcquisitionsRace() throws Exception {
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<LeaseService.Lease> acquired = new ArrayList<>();
+        try {
+            List<Future<LeaseService.Lease>> results = new ArrayList<>();
+            Callable<LeaseService.Lease> attempt = () -> {
+                start.await();
+                return leaseService.tryAcquire(LeaseService.PAYROLL_JOB, "2026-02");
+            };
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(attempt));
+            }
+            start.countDown();
+            for (Future<LeaseService.Lease> result : results) {
+                acquired.add(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<LeaseService.Lease> holders = acquired.stream().filter(Objects::nonNull).toList();
+        assertEquals(1, holders.size());
+        LeaseService.Lease holder = holders.get(0);
+        assertTrue(leaseService.isHeld(holder));
+
+        leaseService.release(holder);
+        assertFalse(leaseService.isHeld(holder));
+        assertFalse(leaseService.isLeased(LeaseService.PAYROLL_JOB, "2026-02"));
+    }
+
+    @Test
+    @DisplayName("A stale release does not drop the lease of the next holder")
+    void staleReleaseKeepsNextHolder() {
+        LeaseService.Lease first = leaseService.tryAcquire(LeaseService.PAYROLL_JOB, "2026-03");
+        leaseService.release(first);
+        LeaseService.Lease second = leaseService.tryAcquire(LeaseService.PAYROLL_JOB, "2026-03");
+        assertNotNull(second);
+        try {
+            leaseService.release(first);
+            assertTrue(leaseService.isHeld(second));
+            assertTrue(leaseService.isLeased(LeaseService.PAYROLL_JOB, "2026-03"));
+        } finally {
+            leaseService.release(second);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.empmanage.component;
+
+import com.empmanage.dto.request.EmployeeRequest;
+import com.empmanage.dto.request.LeaveRequest;
+import com.empmanage.entity.Leave;
+import com.empmanage.entity.LeaveBalance;
+import com.empmanage.repository.LeaveBalanceRepository;
+import com.empmanage.service.EmployeeService;
+import com.empmanage.service.LeaveService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:leavebalance;MODE=MySQL;NON_KEYWORDS=MONTH,YEAR;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "twilio.account.sid=",
+        "twilio.auth.token=",
+        "twilio.phone.number="
+})
+@DisplayName("Leave Balance Component Test")
+class LeaveBalanceComponentTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private LeaveBalanceRepository balanceRepository;
+
+    @Test
+    @DisplayName("Concurrent first leaves of a year both succeed and share one balance row")
+    void concurrentFirstLeavesOfAYear() throws Exception {
+        EmployeeRequest employee = new EmployeeRequest();
+        employee.setName("Balance Test");
+        employee.setMobile("9400000001");
+        employee.setBaseSalary(new BigDecimal("26000"));
+        employee.setPfAmount(BigDecimal.ZERO);
+        Long employeeId = employeeService.createEmployee(employee).getId();
+
+        // December, so all 12 paid days have accrued under monthly accrual
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Leave> created = new ArrayList<>();
+        try {
+            List<Future<Leave>> results = new ArrayList<>();
+            for (int day = 1; day <= 2; day++) {
+                LeaveRequest leave = new LeaveRequest();
+                leave.setEmployeeId(employeeId);
+                leave.setLeaveDate(LocalDate.of(2025, 12, day));
+                leave.setLeaveType(Leave.LeaveType.PAID);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return leaveService.createLeave(leave);
+                }));
+            }
+            start.countDown();
+            for (Future<Leave> result : results) {
+                created.add(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(created.stream().allMatch(leave -> leave.getLeaveType() == Leave.LeaveType.PAID));
+        LeaveBalance balance = balanceRepository.findByEmployeeIdAndYear(employeeId, 2025).orElseThrow();
+        assertEquals(2, balance.getPaidTaken());
+        assertEquals(0, balance.getUnpaidTaken());
+    }
+}
@@ -0,0 +1,115 @@
+package com.empmanage.component;
+
+import com.empmanage.entity.Employee;
+import com.empmanage.entity.PayrollRun;
+import com.empmanage.entity.PayrollRunFailure;
+import com.empmanage.repository.EmployeeRepository;
+import com.empmanage.repository.SalaryRepository;
+import com.empmanage.service.LeaseService;
+import com.empmanage.service.PayrollJobRunner;
+import com.empmanage.service.PayrollJobService;
+import com.empmanage.service.SalaryCalculationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:payrolljob;MODE=MySQL;NON_KEYWORDS=MONTH,YEAR;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "payroll.job.chunk-size=2",
+        "twilio.account.sid=",
+        "twilio.auth.token=",
+        "twilio.phone.number="
+})
+@DisplayName("Payroll Job Component Test")
+class PayrollJobComponentTest {
+
+    private static final int MONTH = 1;
+    private static final int YEAR = 2026;
+
+    @Autowired
+    private PayrollJobService payrollJobService;
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Autowired
+    private PayrollJobRunner.InterruptedRunCheck interruptedRunCheck;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private SalaryRepository salaryRepository;
+
+    @SpyBean
+    private SalaryCalculationService salaryCalculationService;
+
+    @Test
+    @DisplayName("An employee whose salary fails is recorded and skipped; the run completes")
+    void failingEmployeeIsSkipped() {
+        Long first = saveEmployee("9000000001").getId();
+        Long failing = saveEmployee("9000000002").getId();
+        Long last = saveEmployee("9000000003").getId();
+        doThrow(new IllegalStateException("No bank details"))
+                .when(salaryCalculationService).generateSalary(eq(failing), eq(MONTH), eq(YEAR), any());
+
+        PayrollRun[] result = new PayrollRun[1];
+        assertTrue(leaseService.runExclusively(LeaseService.PAYROLL_JOB, LeaseService.monthKey(MONTH, YEAR), lease -> {
+            PayrollRun run = payrollJobService.prepareRun(MONTH, YEAR);
+            result[0] = payrollJobService.runToCompletion(run.getId(), lease);
+        }));
+
+        PayrollRun run = result[0];
+        assertEquals(PayrollRun.RunStatus.COMPLETED, run.getStatus());
+        assertEquals(3L, run.getProcessedEmployees());
+        assertEquals(2L, run.getGeneratedCount());
+        assertEquals(1L, run.getFailedCount());
+        assertEquals(0L, run.getSkippedCount());
+        assertTrue(salaryRepository.findByEmployeeIdAndMonthAndYear(first, MONTH, YEAR).isPresent());
+        assertTrue(salaryRepository.findByEmployeeIdAndMonthAndYear(last, MONTH, YEAR).isPresent());
+        assertTrue(salaryRepository.findByEmployeeIdAndMonthAndYear(failing, MONTH, YEAR).isEmpty());
+
+        List<PayrollRunFailure> failures = payrollJobService.getFailures(MONTH, YEAR);
+        assertEquals(1, failures.size());
+        assertEquals(failing, failures.get(0).getEmployeeId());
+        assertEquals("No bank details", failures.get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("A run left RUNNING without a live lease is resumed by the periodic check")
+    void orphanedRunIsResumed() throws InterruptedException {
+        // The run is prepared but its holder stops before processing it, as after a lost lease
+        assertTrue(leaseService.runExclusively(LeaseService.PAYROLL_JOB, LeaseService.monthKey(MONTH + 1, YEAR),
+                lease -> payrollJobService.prepareRun(MONTH + 1, YEAR)));
+        assertEquals("RUNNING", payrollJobService.getRun(MONTH + 1, YEAR).getStatus());
+
+        interruptedRunCheck.run();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!"COMPLETED".equals(payrollJobService.getRun(MONTH + 1, YEAR).getStatus())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals("COMPLETED", payrollJobService.getRun(MONTH + 1, YEAR).getStatus());
+    }
+
+    private Employee saveEmployee(String mobile) {
+        Employee employee = new Employee();
+        employee.setName("Employee " + mobile);
+        employee.setMobile(mobile);
+        employee.setBaseSalary(new BigDecimal("30000"));
+        employee.setPfAmount(new BigDecimal("1800"));
+        return employeeRepository.save(employee);
+    }
+}
@@ -0,0 +1,468 @@
+package com.empmanage.component;
+
+import com.empmanage.dto.request.AdvanceRequest;
+import com.empmanage.dto.request.AttendanceRequest;
+import com.empmanage.dto.request.EmployeeBulkUpdateRequest;
+import com.empmanage.dto.request.EmployeeRequest;
+import com.empmanage.dto.request.FoodExpenseRequest;
+import com.empmanage.dto.request.HolidayRequest;
+import com.empmanage.dto.request.LeaveRequest;
+import com.empmanage.dto.request.OvertimeRequest;
+import com.empmanage.dto.request.SalarySimulationRequest;
+import com.empmanage.dto.response.AttendanceResponse;
+import com.empmanage.dto.response.MonthlyTransactionsResponse;
+import com.empmanage.dto.response.SalaryPreviewResponse;
+import com.empmanage.dto.response.SalaryRangePreviewResponse;
+import com.empmanage.dto.response.SalarySimulationResponse;
+import com.empmanage.entity.Advance;
+import com.empmanage.entity.AdvanceInstallment;
+import com.empmanage.entity.EmployeeCompensation;
+import com.empmanage.entity.Leave;
+import com.empmanage.entity.Salary;
+import com.empmanage.entity.SalaryDetail;
+import com.empmanage.repository.AdvanceRepository;
+import com.empmanage.repository.SalaryDetailRepository;
+import com.empmanage.service.AdvanceService;
+import com.empmanage.service.AttendanceService;
+import com.empmanage.service.CompensationService;
+import com.empmanage.service.EmployeeBulkUpdateService;
+import com.empmanage.service.EmployeeService;
+import com.empmanage.service.FoodExpenseService;
+import com.empmanage.service.LeaveService;
+import com.empmanage.service.OvertimeService;
+import com.empmanage.service.SalaryCalculationService;
+import com.empmanage.service.SalarySimulationService;
+import com.empmanage.service.WorkCalendarService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Salary amounts for hand-computed scenarios. March 2025 has 26 working days (Sundays
+ * 2, 9, 16, 23 and 30 are weekly offs), so a base of 26000 is 1000 per day.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Salary Amount Component Test")
+class SalaryAmountComponentTest {
+
+    private static final int MONTH = 3;
+    private static final int YEAR = 2025;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeBulkUpdateService bulkUpdateService;
+
+    @Autowired
+    private CompensationService compensationService;
+
+    @Autowired
+    private AdvanceService advanceService;
+
+    @Autowired
+    private AdvanceRepository advanceRepository;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private WorkCalendarService workCalendarService;
+
+    @Autowired
+    private SalaryCalculationService salaryCalculationService;
+
+    @Autowired
+    private OvertimeService overtimeService;
+
+    @Autowired
+    private SalarySimulationService salarySimulationService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FoodExpenseService foodExpenseService;
+
+    @Autowired
+    private SalaryDetailRepository salaryDetailRepository;
+
+    private Long employeeId;
+
+    @BeforeEach
+    void setUp() {
+        employeeId = employeeService.createEmployee(employee("26000", null)).getId();
+    }
+
+    @Test
+    @DisplayName("Zero days worked marks only working days absent and deducts exactly the base")
+    void zeroDaysWorkedDeductsTheBase() {
+        AttendanceResponse attendance = attendanceService.createOrUpdateAttendance(daysWorked(0));
+        assertEquals(26, attendance.getAbsentDays().size());
+        assertFalse(attendance.getAbsentDays().contains(2));
+
+        SalaryPreviewResponse preview = salaryCalculationService.previewSalary(employeeId, MONTH, YEAR, false);
+        assertAmount("26000", preview.getAttendanceDeduction());
+        assertAmount("0", preview.getFinalSalary());
+    }
+
+    @Test
+    @DisplayName("Days worked fill working days first; the remaining working days are absences")
+    void daysWorkedSkipsDaysOff() {
+        AttendanceResponse attendance = attendanceService.createOrUpdateAttendance(daysWorked(20));
+        assertEquals(20, attendance.getPresentDays().size());
+        assertEquals(List.of(1, 3, 4, 5, 6, 7, 8, 10), attendance.getPresentDays().subList(0, 8));
+        assertEquals(6, attendance.getAbsentDays().size());
+
+        SalaryPreviewResponse preview = salaryCalculationService.previewSalary(employeeId, MONTH, YEAR, false);
+        assertAmount("6000", preview.getAttendanceDeduction());
+        assertAmount("20000", preview.getFinalSalary());
+    }
+
+    @Test
+    @DisplayName("A day with an unpaid leave and an absence is deducted once, and generate matches preview")
+    void leaveAndAbsenceOnOneDayDeductOnce() {
+        AttendanceRequest attendance = attendanceDays(List.of(3, 4));
+        attendanceService.createOrUpdateAttendance(attendance);
+        LeaveRequest leave = new LeaveRequest();
+        leave.setEmployeeId(employeeId);
+        leave.setLeaveDate(LocalDate.of(YEAR, MONTH, 3));
+        leave.setLeaveType(Leave.LeaveType.UNPAID);
+        leaveService.createLeave(leave);
+
+        SalaryPreviewResponse preview = salaryCalculationService.previewSalary(employeeId, MONTH, YEAR, true);
+        assertAmount("1000", preview.getLeaveDeduction());
+        assertAmount("1000", preview.getAttendanceDeduction());
+        assertAmount("24000", preview.getFinalSalary());
+        assertEquals(1, preview.getDateWiseBreakdown().stream().filter(item -> "ABSENCE".equals(item.getType())).count());
+
+        Salary salary = salaryCalculationService.generateSalary(employeeId, MONTH, YEAR);
+        assertAmount("1000", salary.getAttendanceDeduction());
+        assertAmount(preview.getFinalSalary().toPlainString(), salary.getFinalSalary());
+    }
+
+    @Test
+    @DisplayName("A holiday shrinks the working-day divisor, and absences on days off are not deducted")
+    void holidayDivisorAndAbsencesOnDaysOff() {
+        HolidayRequest holiday = new HolidayRequest();
+        holiday.setHolidayDate(LocalDate.of(YEAR, MONTH, 10));
+        holiday.setName("Amount test holiday");
+        workCalendarService.addHoliday(holiday);
+        // Day 2 is a Sunday and day 10 the holiday; only day 5 costs pay
+        attendanceService.createOrUpdateAttendance(attendanceDays(List.of(2, 5, 10)));
+
+        SalaryPreviewResponse preview = salaryCalculationService.previewSalary(employeeId, MONTH, YEAR, false);
+        assertEquals(25, preview.getWorkingDays());
+        assertAmount("1", preview.getUnpaidAbsenceDays());
+        assertAmount("1040", preview.getAttendanceDeduction());
+        assertAmount("24960", preview.getFinalSalary());
+    }
+
+    @Test
+    @DisplayName("The 13th leave day under the default 12 paid days is recorded and deducted as unpaid")
+    void thirteenthLeaveDayIsUnpaid() {
+        // December 2025 has 27 working days (Sundays 7, 14, 21 and 28 are weekly offs) and
+        // all 12 paid days have accrued by then
+        int december = 12;
+        List<Integer> days = List.of(1, 2, 3, 4, 5, 6, 8, 9, 10, 11, 12, 13, 15);
+        for (int i = 0; i < days.size(); i++) {
+            LeaveRequest leave = new LeaveRequest();
+            leave.setEmployeeId(employeeId);
+            leave.setLeaveDate(LocalDate.of(YEAR, december, days.get(i)));
+            leave.setLeaveType(Leave.LeaveType.PAID);
+            Leave.LeaveType expected = i < 12 ? Leave.LeaveType.PAID : Leave.LeaveType.UNPAID;
+            assertEquals(expected, leaveService.createLeave(leave).getLeaveType(), "leave day " + (i + 1));
+        }
+
+        SalaryPreviewResponse preview = salaryCalculationService.previewSalary(employeeId, december, YEAR, false);
+        assertAmount("962.96", preview.getLeaveDeduction());
+        assertAmount("25037.04", preview.getFinalSalary());
+    }
+
+    @Test
+    @DisplayName("Simulating without changes gives the salary that generation then produces")
+    void simulationMatchesGeneration() {
+        overtime(LocalDate.of(YEAR, MONTH, 4), "2", "150");
+        unpaidLeave(LocalDate.of(YEAR, MONTH, 3));
+        attendanceService.createOrUpdateAttendance(attendanceDays(List.of(5)));
+        advanceService.createAdvance(advance("2000", LocalDate.of(YEAR, MONTH, 6), null));
+        // The simulation reads the ledger over JDBC
+        entityManager.flush();
+
+        SalarySimulationRequest request = new SalarySimulationRequest();
+        request.setMonth(MONTH);
+        request.setYear(YEAR);
+        request.setEmployeeIds(List.of(employeeId));
+        SalarySimulationResponse simulation = salarySimulationService.simulate(request);
+        assertEquals(1, simulation.getEntries().size());
+        SalarySimulationResponse.Entry entry = simulation.getEntries().get(0);
+
+        // 26000 + 300 overtime - 2000 advance - 1000 leave - 1000 absence
+        Salary salary = salaryCalculationService.generateSalary(employeeId, MONTH, YEAR);
+        assertAmount("22300", salary.getFinalSalary());
+        assertAmount("22300", entry.getCurrentFinalSalary());
+        assertAmount("22300", entry.getSimulatedFinalSalary());
+    }
+
+    @Test
+    @DisplayName("A range preview gives each month the single-month preview's amounts")
+    void rangePreviewMatchesSingleMonthPreviews() {
+        overtime(LocalDate.of(YEAR, MONTH, 4), "2", "150");
+        advanceService.createAdvance(advance("3000", LocalDate.of(YEAR, MONTH, 6), 3));
+        unpaidLeave(LocalDate.of(YEAR, MONTH + 1, 8));
+        AttendanceRequest april = attendanceDays(List.of(9));
+        april.setMonth(MONTH + 1);
+        attendanceService.createOrUpdateAttendance(april);
+
+        SalaryRangePreviewResponse range = salaryCalculationService.previewSalaryRange(employeeId,
+                YearMonth.of(YEAR, MONTH), YearMonth.of(YEAR, MONTH + 2), false);
+        assertEquals(3, range.getMonths().size());
+        BigDecimal total = BigDecimal.ZERO;
+        for (SalaryPreviewResponse month : range.getMonths()) {
+            SalaryPreviewResponse single = salaryCalculationService.previewSalary(employeeId, month.getMonth(), YEAR, false);
+            assertAmount(single.getTotalOvertime().toPlainString(), month.getTotalOvertime());
+            assertAmount(single.getTotalAdvances().toPlainString(), month.getTotalAdvances());
+            assertAmount(single.getLeaveDeduction().toPlainString(), month.getLeaveDeduction());
+            assertAmount(single.getAttendanceDeduction().toPlainString(), month.getAttendanceDeduction());
+            assertAmount(single.getFinalSalary().toPlainString(), month.getFinalSalary());
+            total = total.add(single.getFinalSalary());
+        }
+        // April has 26 working days too: 26000 - 1000 advance - 1000 leave - 1000 absence
+        assertAmount("23000", range.getMonths().get(1).getFinalSalary());
+        assertAmount(total.toPlainString(), range.getTotalFinalSalary());
+    }
+
+    @Test
+    @DisplayName("Food and absences are stored as FOOD and ABSENCE salary detail rows")
+    void foodAndAbsenceDetailRows() {
+        FoodExpenseRequest food = new FoodExpenseRequest();
+        food.setEmployeeId(employeeId);
+        food.setExpenseDate(LocalDate.of(YEAR, MONTH, 4));
+        food.setMeals(2);
+        food.setPricePerMeal(new BigDecimal("60"));
+        foodExpenseService.createFoodExpense(food);
+        attendanceService.createOrUpdateAttendance(attendanceDays(List.of(5)));
+
+        Salary salary = salaryCalculationService.generateSalary(employeeId, MONTH, YEAR);
+        assertAmount("24880", salary.getFinalSalary());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SalaryDetail> details = salaryDetailRepository.findBySalaryId(salary.getId());
+        SalaryDetail foodRow = details.stream()
+                .filter(detail -> detail.getType() == SalaryDetail.DetailType.FOOD).findFirst().orElseThrow();
+        assertAmount("-120", foodRow.getAmount());
+        SalaryDetail absenceRow = details.stream()
+                .filter(detail -> detail.getType() == SalaryDetail.DetailType.ABSENCE).findFirst().orElseThrow();
+        assertAmount("-1000", absenceRow.getAmount());
+    }
+
+    @Test
+    @DisplayName("The month ledger lists every row by date with per-type totals")
+    void monthlyTransactionsRowsAndTotals() {
+        overtime(LocalDate.of(YEAR, MONTH, 4), "2", "150");
+        overtime(LocalDate.of(YEAR, MONTH, 6), "1", "150");
+        advanceService.createAdvance(advance("2000", LocalDate.of(YEAR, MONTH, 6), null));
+        unpaidLeave(LocalDate.of(YEAR, MONTH, 3));
+        unpaidLeave(LocalDate.of(YEAR, MONTH, 7));
+        FoodExpenseRequest food = new FoodExpenseRequest();
+        food.setEmployeeId(employeeId);
+        food.setExpenseDate(LocalDate.of(YEAR, MONTH, 4));
+        food.setMeals(2);
+        food.setPricePerMeal(new BigDecimal("60"));
+        foodExpenseService.createFoodExpense(food);
+        AttendanceRequest attendance = attendanceDays(List.of(5, 8));
+        attendance.setPresentDays(List.of(1, 4));
+        attendance.setHalfDays(List.of(10));
+        attendanceService.createOrUpdateAttendance(attendance);
+        entityManager.flush();
+        entityManager.clear();
+
+        MonthlyTransactionsResponse ledger = employeeService.getMonthlyTransactions(employeeId, MONTH, YEAR);
+
+        // ordered by date, then type; the attendance row is dated the 1st
+        assertEquals(List.of("ATTENDANCE", "LEAVE", "FOOD", "OVERTIME", "ADVANCE", "OVERTIME", "LEAVE"),
+                ledger.getEntries().stream().map(MonthlyTransactionsResponse.Entry::getType).toList());
+        MonthlyTransactionsResponse.Entry attendanceRow = ledger.getEntries().get(0);
+        assertAmount("2.5", attendanceRow.getQuantity());
+        assertEquals("present 2, half day 1, absent 2", attendanceRow.getDescription());
+
+        Map<String, MonthlyTransactionsResponse.TypeTotal> totals = ledger.getTotals().stream()
+                .collect(Collectors.toMap(MonthlyTransactionsResponse.TypeTotal::getType, total -> total));
+        assertEquals(2L, totals.get("OVERTIME").getCount());
+        assertAmount("450", totals.get("OVERTIME").getAmount());
+        assertAmount("3", totals.get("OVERTIME").getQuantity());
+        assertEquals(1L, totals.get("ADVANCE").getCount());
+        assertAmount("2000", totals.get("ADVANCE").getAmount());
+        assertEquals(2L, totals.get("LEAVE").getCount());
+        assertAmount("2", totals.get("LEAVE").getQuantity());
+        assertEquals(1L, totals.get("FOOD").getCount());
+        assertAmount("120", totals.get("FOOD").getAmount());
+        assertAmount("2", totals.get("FOOD").getQuantity());
+        assertEquals(1L, totals.get("ATTENDANCE").getCount());
+        assertAmount("2.5", totals.get("ATTENDANCE").getQuantity());
+    }
+
+    @Test
+    @DisplayName("A raise on the 17th pro-rates the base by the calendar days at each rate")
+    void midMonthRaiseProratesTheBase() {
+        employeeService.updateEmployee(employeeId, employee("57000", LocalDate.of(YEAR, MONTH, 17)));
+
+        // 16 days at 26000 and 15 days at 57000, over the 31 days of March
+        SalaryPreviewResponse preview = salaryCalculationService.previewSalary(employeeId, MONTH, YEAR, false);
+        assertAmount("41000", preview.getBaseSalary());
+        assertAmount("41000", preview.getFinalSalary());
+
+        Salary salary = salaryCalculationService.generateSalary(employeeId, MONTH, YEAR);
+        assertAmount("41000", salary.getBaseSalary());
+    }
+
+    @Test
+    @DisplayName("A bulk raise dated before an employee's later change is rejected")
+    void backDatedBulkRaiseIsRejected() {
+        employeeService.updateEmployee(employeeId, employee("57000", LocalDate.of(YEAR, MONTH, 17)));
+
+        IllegalArgumentException rejected = assertThrows(IllegalArgumentException.class,
+                () -> bulkUpdateService.apply(bulkRaise(LocalDate.of(YEAR, MONTH, 1))));
+        assertTrue(rejected.getMessage().contains("1 of the selected employees"));
+        assertEquals(2, compensationService.getHistory(employeeId).size());
+
+        bulkUpdateService.apply(bulkRaise(LocalDate.of(YEAR, MONTH, 20)));
+        List<EmployeeCompensation> history = compensationService.getHistory(employeeId);
+        assertEquals(3, history.size());
+        assertEquals(LocalDate.of(YEAR, MONTH, 20), history.get(2).getEffectiveFrom());
+        assertAmount("62700", history.get(2).getBaseSalary());
+    }
+
+    @Test
+    @DisplayName("An advance in 3 installments deducts a third in each of 3 months")
+    void advanceInstallmentsDeductAThirdEachMonth() {
+        advanceService.createAdvance(advance("3000", LocalDate.of(YEAR, MONTH, 5), 3));
+
+        for (int month = MONTH; month < MONTH + 3; month++) {
+            Salary salary = salaryCalculationService.generateSalary(employeeId, month, YEAR);
+            assertAmount("1000", salary.getTotalAdvances());
+            assertAmount("25000", salary.getFinalSalary());
+        }
+        assertTrue(advanceService.getOutstandingAdvances(employeeId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("An advance dated in a month whose salary is generated is due the next month")
+    void backDatedAdvanceRollsIntoNextOpenMonth() {
+        Salary march = salaryCalculationService.generateSalary(employeeId, MONTH, YEAR);
+        Advance advance = advanceService.createAdvance(advance("2000", LocalDate.of(YEAR, MONTH, 10), null));
+
+        List<AdvanceInstallment> installments = advanceService.getInstallments(advance.getId());
+        assertEquals(1, installments.size());
+        assertEquals(MONTH + 1, installments.get(0).getDueMonth());
+        assertAmount("26000", march.getFinalSalary());
+
+        Salary april = salaryCalculationService.generateSalary(employeeId, MONTH + 1, YEAR);
+        assertAmount("2000", april.getTotalAdvances());
+        assertAmount("24000", april.getFinalSalary());
+    }
+
+    @Test
+    @DisplayName("Backfilled advances are repaid only when their month's salary exists")
+    void backfillMarksAdvancesOfGeneratedMonthsRepaid() {
+        Salary march = salaryCalculationService.generateSalary(employeeId, MONTH, YEAR);
+        // Advances recorded before installments existed: no schedule rows yet
+        Advance repaid = advanceRepository.save(new Advance(null, employeeService.getEmployeeEntity(employeeId),
+                new BigDecimal("1500"), LocalDate.of(YEAR, MONTH, 12), "Legacy", 1, new BigDecimal("1500")));
+        Advance open = advanceRepository.save(new Advance(null, employeeService.getEmployeeEntity(employeeId),
+                new BigDecimal("800"), LocalDate.of(YEAR, MONTH + 1, 3), "Legacy", 1, new BigDecimal("800")));
+
+        advanceService.backfillInstallments();
+
+        assertEquals(march.getId(), advanceService.getInstallments(repaid.getId()).get(0).getSalaryId());
+        assertNull(advanceService.getInstallments(open.getId()).get(0).getSalaryId());
+        List<Advance> outstanding = advanceService.getOutstandingAdvances(employeeId);
+        assertEquals(List.of(open.getId()), outstanding.stream().map(Advance::getId).toList());
+    }
+
+    private void overtime(LocalDate date, String hours, String ratePerHour) {
+        OvertimeRequest request = new OvertimeRequest();
+        request.setEmployeeId(employeeId);
+        request.setOvertimeDate(date);
+        request.setHours(new BigDecimal(hours));
+        request.setRatePerHour(new BigDecimal(ratePerHour));
+        overtimeService.createOvertime(request);
+    }
+
+    private void unpaidLeave(LocalDate date) {
+        LeaveRequest request = new LeaveRequest();
+        request.setEmployeeId(employeeId);
+        request.setLeaveDate(date);
+        request.setLeaveType(Leave.LeaveType.UNPAID);
+        leaveService.createLeave(request);
+    }
+
+    private AdvanceRequest advance(String amount, LocalDate date, Integer installments) {
+        AdvanceRequest request = new AdvanceRequest();
+        request.setEmployeeId(employeeId);
+        request.setAmount(new BigDecimal(amount));
+        request.setAdvanceDate(date);
+        request.setInstallments(installments);
+        return request;
+    }
+
+    private EmployeeRequest employee(String baseSalary, LocalDate effectiveDate) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setName("Amount Test");
+        request.setMobile("9300000001");
+        request.setBaseSalary(new BigDecimal(baseSalary));
+        request.setPfAmount(BigDecimal.ZERO);
+        request.setEffectiveDate(effectiveDate);
+        return request;
+    }
+
+    private EmployeeBulkUpdateRequest bulkRaise(LocalDate effectiveDate) {
+        EmployeeBulkUpdateRequest request = new EmployeeBulkUpdateRequest();
+        request.setRaisePercent(BigDecimal.TEN);
+        request.setEffectiveDate(effectiveDate);
+        request.setEmployeeIds(List.of(employeeId));
+        return request;
+    }
+
+    private AttendanceRequest attendanceDays(List<Integer> absentDays) {
+        AttendanceRequest request = new AttendanceRequest();
+        request.setEmployeeId(employeeId);
+        request.setMonth(MONTH);
+        request.setYear(YEAR);
+        request.setAbsentDays(absentDays);
+        return request;
+    }
+
+    private AttendanceRequest daysWorked(int days) {
+        AttendanceRequest request = new AttendanceRequest();
+        request.setEmployeeId(employeeId);
+        request.setMonth(MONTH);
+        request.setYear(YEAR);
+        request.setDaysWorked(days);
+        return request;
+    }
+
+    private static void assertAmount(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,477 @@
+package com.empmanage.component;
+
+import com.empmanage.dto.request.*;
+import com.empmanage.entity.Advance;
+import com.empmanage.entity.Leave;
+import com.empmanage.entity.Overtime;
+import com.empmanage.entity.PayrollRun;
+import com.empmanage.entity.Salary;
+import com.empmanage.repository.AdvanceRepository;
+import com.empmanage.repository.EmployeeBulkChangeRepository;
+import com.empmanage.repository.LeaveRepository;
+import com.empmanage.repository.OvertimeRepository;
+import com.empmanage.repository.PayrollRunRepository;
+import com.empmanage.service.*;
+import com.empmanage.support.StatementCounter;
+import com.empmanage.support.StatementCounting;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twilio.Twilio;
+import com.twilio.http.HttpClient;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for every controller endpoint against a seeded multi-employee month.
+ * Budgets are fixed numbers, so a new per-employee or per-row query fails the build.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=MySQL;NON_KEYWORDS=MONTH,YEAR;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "twilio.account.sid=",
+        "twilio.auth.token=",
+        "twilio.phone.number=+15005550006"
+})
+@AutoConfigureMockMvc
+@Transactional
+@StatementCounting
+@DisplayName("SQL Statement Budget Component Test")
+class StatementBudgetComponentTest {
+
+    private static final int EMPLOYEES = 10;
+    private static final int MONTH = 3;
+    private static final int YEAR = 2026;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private OvertimeService overtimeService;
+
+    @Autowired
+    private AdvanceService advanceService;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private SalaryCalculationService salaryCalculationService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private FoodExpenseService foodExpenseService;
+
+    @Autowired
+    private OvertimeRepository overtimeRepository;
+
+    @Autowired
+    private AdvanceRepository advanceRepository;
+
+    @Autowired
+    private LeaveRepository leaveRepository;
+
+    @Autowired
+    private EmployeeBulkChangeRepository bulkChangeRepository;
+
+    @Autowired
+    private WorkCalendarService workCalendarService;
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    private final List<Long> employeeIds = new ArrayList<>();
+    private Salary generatedSalary;
+
+    /** SMS sends succeed against a stub Twilio client instead of the network. */
+    @BeforeAll
+    static void stubTwilio() {
+        Twilio.setRestClient(new TwilioRestClient.Builder("ACstatementbudget", "token")
+                .httpClient(new HttpClient() {
+                    @Override
+                    public Response makeRequest(Request request) {
+                        return new Response("{\"sid\": \"SMstatementbudget\", \"status\": \"queued\"}", 201);
+                    }
+                })
+                .build());
+    }
+
+    @AfterAll
+    static void resetTwilio() {
+        Twilio.setRestClient(null);
+    }
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < EMPLOYEES; i++) {
+            EmployeeRequest employee = new EmployeeRequest();
+            employee.setName("Worker " + i);
+            employee.setMobile(String.format("98765%05d", i));
+            employee.setBaseSalary(new BigDecimal("30000"));
+            employee.setPfAmount(new BigDecimal("1800"));
+            Long employeeId = employeeService.createEmployee(employee).getId();
+            employeeIds.add(employeeId);
+
+            for (int day = 1; day <= 2; day++) {
+                OvertimeRequest overtime = new OvertimeRequest();
+                overtime.setEmployeeId(employeeId);
+                overtime.setOvertimeDate(LocalDate.of(YEAR, MONTH, day));
+                overtime.setHours(new BigDecimal("2"));
+                overtime.setRatePerHour(new BigDecimal("150"));
+                overtimeService.createOvertime(overtime);
+            }
+
+            AdvanceRequest advance = new AdvanceRequest();
+            advance.setEmployeeId(employeeId);
+            advance.setAmount(new BigDecimal("2000"));
+            advance.setAdvanceDate(LocalDate.of(YEAR, MONTH, 5));
+            advanceService.createAdvance(advance);
+
+            leaveService.createLeave(leave(employeeId, 10, Leave.LeaveType.UNPAID));
+            leaveService.createLeave(leave(employeeId, 11, Leave.LeaveType.PAID));
+        }
+        generatedSalary = salaryCalculationService.generateSalary(employeeIds.get(0), MONTH, YEAR);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Employee endpoints")
+    void employeeEndpoints(StatementCounter counter) throws Exception {
+        Long employeeId = employeeIds.get(1);
+        EmployeeRequest update = new EmployeeRequest();
+        update.setName("Renamed");
+        update.setMobile(String.format("98765%05d", 1));
+        update.setBaseSalary(new BigDecimal("32000"));
+        update.setPfAmount(new BigDecimal("1800"));
+        EmployeeRequest create = new EmployeeRequest();
+        create.setName("New Worker");
+        create.setMobile("9000000001");
+        create.setBaseSalary(new BigDecimal("25000"));
+        create.setPfAmount(BigDecimal.ZERO);
+
+        assertBudget(counter, 1, "GET /api/employees", get("/api/employees"));
+        assertBudget(counter, 1, "GET /api/employees/{id}", get("/api/employees/{id}", employeeId));
+        assertBudget(counter, 1, "GET /api/employees/{id}/ledger", get("/api/employees/{id}/ledger", employeeId)
+                .param("month", String.valueOf(MONTH)).param("year", String.valueOf(YEAR)));
+        assertBudget(counter, 3, "POST /api/employees", json(post("/api/employees"), create));
+        assertBudget(counter, 4, "PUT /api/employees/{id}", json(put("/api/employees/{id}", employeeId), update));
+        assertBudget(counter, 2, "PUT /api/employees/{id}/deactivate", put("/api/employees/{id}/deactivate", employeeId));
+    }
+
+    @Test
+    @DisplayName("Bulk employee update endpoints")
+    void bulkEmployeeUpdateEndpoints(StatementCounter counter) throws Exception {
+        EmployeeBulkUpdateRequest raise = new EmployeeBulkUpdateRequest();
+        raise.setRaisePercent(new BigDecimal("5"));
+        raise.setPfAmount(new BigDecimal("2000"));
+        raise.setEffectiveDate(LocalDate.of(YEAR, MONTH, 1));
+        raise.setReason("Annual raise");
+
+        // Audit header, INSERT ... SELECT of the items, the check for later compensation changes,
+        // one compensation history upsert, one UPDATE and the affected count, however many employees match
+        assertBudget(counter, 6, "POST /api/employees/bulk-update", json(post("/api/employees/bulk-update"), raise));
+        assertBudget(counter, 1, "GET /api/employees/bulk-updates", get("/api/employees/bulk-updates"));
+        Long changeId = bulkChangeRepository.findAllByOrderByAppliedAtDesc().get(0).getId();
+        assertBudget(counter, 2, "GET /api/employees/bulk-updates/{id}/items",
+                get("/api/employees/bulk-updates/{id}/items", changeId));
+    }
+
+    @Test
+    @DisplayName("Holiday endpoints")
+    void holidayEndpoints(StatementCounter counter) throws Exception {
+        HolidayRequest request = new HolidayRequest();
+        request.setHolidayDate(LocalDate.of(YEAR, 8, 15));
+        request.setName("Independence Day");
+
+        assertBudget(counter, 2, "POST /api/holidays", json(post("/api/holidays"), request));
+        assertBudget(counter, 1, "GET /api/holidays", get("/api/holidays").param("year", String.valueOf(YEAR)));
+        // Built from one holiday query the first time, then served from memory
+        assertBudget(counter, 1, "GET /api/holidays/calendar",
+                get("/api/holidays/calendar").param("month", "8").param("year", String.valueOf(YEAR)));
+        Long holidayId = workCalendarService.getHolidays(YEAR).get(0).getId();
+        assertBudget(counter, 2, "DELETE /api/holidays/{id}", delete("/api/holidays/{id}", holidayId));
+    }
+
+    @Test
+    @DisplayName("Dashboard endpoint")
+    void dashboardEndpoint(StatementCounter counter) throws Exception {
+        assertBudget(counter, 5, "GET /api/dashboard", get("/api/dashboard"));
+    }
+
+    @Test
+    @DisplayName("Overtime endpoints")
+    void overtimeEndpoints(StatementCounter counter) throws Exception {
+        Long employeeId = employeeIds.get(2);
+        OvertimeRequest request = new OvertimeRequest();
+        request.setEmployeeId(employeeId);
+        request.setOvertimeDate(LocalDate.of(YEAR, MONTH, 20));
+        request.setHours(new BigDecimal("3"));
+        request.setRatePerHour(new BigDecimal("150"));
+        Overtime existing = overtimeRepository.findByEmployeeId(employeeId).get(0);
+        entityManager.clear();
+
+        assertBudget(counter, 4, "POST /api/overtimes", json(post("/api/overtimes"), request));
+        assertBudget(counter, 2, "GET /api/overtimes/employee/{id}", get("/api/overtimes/employee/{id}", employeeId));
+        assertBudget(counter, 2, "GET /api/overtimes/employee/{id}/month/{m}/year/{y}",
+                get("/api/overtimes/employee/{id}/month/{m}/year/{y}", employeeId, MONTH, YEAR));
+        assertBudget(counter, 4, "DELETE /api/overtimes/{id}", delete("/api/overtimes/{id}", existing.getId()));
+    }
+
+    @Test
+    @DisplayName("Advance endpoints")
+    void advanceEndpoints(StatementCounter counter) throws Exception {
+        Long employeeId = employeeIds.get(3);
+        AdvanceRequest request = new AdvanceRequest();
+        request.setEmployeeId(employeeId);
+        request.setAmount(new BigDecimal("500"));
+        request.setAdvanceDate(LocalDate.of(YEAR, MONTH, 21));
+        Advance existing = advanceRepository.findByEmployeeId(employeeId).get(0);
+        entityManager.clear();
+
+        // Employee, advance row, salary check of the due month, ledger lock and update,
+        // then the one installment
+        assertBudget(counter, 6, "POST /api/advances", json(post("/api/advances"), request));
+        assertBudget(counter, 2, "GET /api/advances/employee/{id}", get("/api/advances/employee/{id}", employeeId));
+        assertBudget(counter, 2, "GET /api/advances/employee/{id}/month/{m}/year/{y}",
+                get("/api/advances/employee/{id}/month/{m}/year/{y}", employeeId, MONTH, YEAR));
+        assertBudget(counter, 2, "GET /api/advances/employee/{id}/outstanding",
+                get("/api/advances/employee/{id}/outstanding", employeeId));
+        assertBudget(counter, 1, "GET /api/advances/{id}/installments",
+                get("/api/advances/{id}/installments", existing.getId()));
+        // Advance, its installments, ledger lock and update, and one delete each for installments and advance
+        assertBudget(counter, 6, "DELETE /api/advances/{id}", delete("/api/advances/{id}", existing.getId()));
+    }
+
+    @Test
+    @DisplayName("Leave endpoints")
+    void leaveEndpoints(StatementCounter counter) throws Exception {
+        Long employeeId = employeeIds.get(4);
+        Leave existing = leaveRepository.findUnpaidLeavesByEmployeeIdAndMonthAndYear(employeeId, MONTH, YEAR).get(0);
+        entityManager.clear();
+
+        // Both kinds lock and update the year's balance row, lock the month ledger and check the day's
+        // leaves; an unpaid leave also checks the day's overtime and updates the month ledger
+        assertBudget(counter, 8, "POST /api/leaves (unpaid)",
+                json(post("/api/leaves"), leave(employeeId, 22, Leave.LeaveType.UNPAID)));
+        assertBudget(counter, 6, "POST /api/leaves (paid)",
+                json(post("/api/leaves"), leave(employeeId, 23, Leave.LeaveType.PAID)));
+        assertBudget(counter, 2, "GET /api/leaves/employee/{id}", get("/api/leaves/employee/{id}", employeeId));
+        assertBudget(counter, 2, "GET /api/leaves/employee/{id}/month/{m}/year/{y}",
+                get("/api/leaves/employee/{id}/month/{m}/year/{y}", employeeId, MONTH, YEAR));
+        assertBudget(counter, 1, "GET /api/employees/{id}/leave-balance",
+                get("/api/employees/{id}/leave-balance", employeeId).param("year", String.valueOf(YEAR)));
+        // The unpaid leave's day bit stays set if another unpaid leave is on the same day
+        assertBudget(counter, 7, "DELETE /api/leaves/{id}", delete("/api/leaves/{id}", existing.getId()));
+    }
+
+    @Test
+    @DisplayName("Food expense endpoints")
+    void foodExpenseEndpoints(StatementCounter counter) throws Exception {
+        Long employeeId = employeeIds.get(7);
+        FoodExpenseRequest request = new FoodExpenseRequest();
+        request.setEmployeeId(employeeId);
+        request.setExpenseDate(LocalDate.of(YEAR, MONTH, 12));
+        request.setMeals(2);
+        request.setPricePerMeal(new BigDecimal("40"));
+        Long existingId = foodExpenseService.createFoodExpense(request).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        CanteenImportRequest canteenDay = new CanteenImportRequest();
+        canteenDay.setDate(LocalDate.of(YEAR, MONTH, 14));
+        canteenDay.setPricePerMeal(new BigDecimal("40"));
+        canteenDay.setEntries(employeeIds.stream().map(id -> {
+            CanteenImportRequest.Entry entry = new CanteenImportRequest.Entry();
+            entry.setEmployeeId(id);
+            return entry;
+        }).toList());
+
+        assertBudget(counter, 4, "POST /api/food-expenses", json(post("/api/food-expenses"), request));
+        // Existence check, one insert batch, ledger lock and one ledger update batch, for any crew size
+        assertBudget(counter, 4, "POST /api/food-expenses/import", json(post("/api/food-expenses/import"), canteenDay));
+        assertBudget(counter, 2, "GET /api/food-expenses/employee/{id}", get("/api/food-expenses/employee/{id}", employeeId));
+        assertBudget(counter, 2, "GET /api/food-expenses/employee/{id}/month/{m}/year/{y}",
+                get("/api/food-expenses/employee/{id}/month/{m}/year/{y}", employeeId, MONTH, YEAR));
+        assertBudget(counter, 4, "DELETE /api/food-expenses/{id}", delete("/api/food-expenses/{id}", existingId));
+    }
+
+    @Test
+    @DisplayName("Attendance endpoints")
+    void attendanceEndpoints(StatementCounter counter) throws Exception {
+        Long employeeId = employeeIds.get(6);
+        AttendanceRequest request = new AttendanceRequest();
+        request.setEmployeeId(employeeId);
+        request.setMonth(MONTH);
+        request.setYear(YEAR);
+        request.setDaysWorked(20);
+        AttendanceRequest previous = new AttendanceRequest();
+        previous.setEmployeeId(employeeId);
+        previous.setMonth(MONTH - 1);
+        previous.setYear(YEAR);
+        previous.setAbsentDays(List.of(3, 4));
+        Long existingId = attendanceService.createOrUpdateAttendance(previous).getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertBudget(counter, 4, "POST /api/attendances", json(post("/api/attendances"), request));
+        assertBudget(counter, 1, "GET /api/attendances/employee/{id}", get("/api/attendances/employee/{id}", employeeId));
+        assertBudget(counter, 1, "GET /api/attendances/employee/{id}/month/{m}/year/{y}",
+                get("/api/attendances/employee/{id}/month/{m}/year/{y}", employeeId, MONTH, YEAR));
+        assertBudget(counter, 2, "DELETE /api/attendances/{id}", delete("/api/attendances/{id}", existingId));
+    }
+
+    @Test
+    @DisplayName("Salary endpoints")
+    void salaryEndpoints(StatementCounter counter) throws Exception {
+        SalaryGenerationRequest request = new SalaryGenerationRequest();
+        request.setEmployeeId(employeeIds.get(5));
+        request.setMonth(MONTH);
+        request.setYear(YEAR);
+
+        // Employee, compensation history, ledger row and attendance row
+        assertBudget(counter, 4, "POST /api/salaries/preview?breakdown=false",
+                json(post("/api/salaries/preview").param("breakdown", "false"), request));
+        assertBudget(counter, 7, "POST /api/salaries/preview", json(post("/api/salaries/preview"), request));
+        // Employee and compensation history, then one range query each for overtime, advances,
+        // leaves, attendance and food, and holidays for the months not cached yet
+        assertBudget(counter, 8, "GET /api/salaries/preview/employee/{id}",
+                get("/api/salaries/preview/employee/{id}", employeeIds.get(5))
+                        .param("from", "2025-04").param("to", "2026-03").param("breakdown", "true"));
+        assertBudget(counter, 2, "GET /api/salaries/employee/{id}",
+                get("/api/salaries/employee/{id}", employeeIds.get(0)));
+        // Salary, payslip lookup and, as it is not finalized, the detail rows, then the sent flag
+        assertBudget(counter, 4, "POST /api/salaries/{id}/send-sms",
+                post("/api/salaries/{id}/send-sms", generatedSalary.getId()));
+        // The salary row and its 4 detail rows (2 overtime, 1 advance, 1 leave) are inserted one by one,
+        // then the advance installment is marked repaid and the advance's outstanding amount reduced;
+        // the SMS sent after it sets the salary's sent flag
+        assertBudget(counter, 17, "POST /api/salaries/generate", json(post("/api/salaries/generate"), request));
+
+        SalarySimulationRequest simulation = new SalarySimulationRequest();
+        simulation.setMonth(MONTH);
+        simulation.setYear(YEAR);
+        simulation.setBaseSalaryPercent(new BigDecimal("5"));
+        // Employees, ledger rows and attendance in one query
+        assertBudget(counter, 1, "POST /api/salaries/simulate", json(post("/api/salaries/simulate"), simulation));
+    }
+
+    @Test
+    @DisplayName("Payslip endpoints")
+    void payslipEndpoints(StatementCounter counter) throws Exception {
+        Long salaryId = generatedSalary.getId();
+        // Existing payslip, salary with employee, detail rows and the payslip insert
+        assertBudget(counter, 4, "POST /api/salaries/{id}/finalize", post("/api/salaries/{id}/finalize", salaryId));
+        assertBudget(counter, 1, "GET /api/salaries/{id}/payslip", get("/api/salaries/{id}/payslip", salaryId));
+        assertBudget(counter, 1, "GET /api/salaries/employee/{id}/payslips",
+                get("/api/salaries/employee/{id}/payslips", employeeIds.get(0)));
+        // A finalized salary's SMS text comes from the payslip, not the detail rows
+        assertBudget(counter, 3, "POST /api/salaries/{id}/send-sms", post("/api/salaries/{id}/send-sms", salaryId));
+        // The month's only salary is already finalized
+        assertBudget(counter, 2, "POST /api/salaries/finalize/month/{m}/year/{y}",
+                post("/api/salaries/finalize/month/{m}/year/{y}", MONTH, YEAR));
+    }
+
+    @Test
+    @DisplayName("Analytics endpoints")
+    void analyticsEndpoints(StatementCounter counter) throws Exception {
+        String year = String.valueOf(YEAR);
+        String month = String.valueOf(MONTH);
+        // A watermark check per period, plus one snapshot load when it is not cached or moved
+        assertBudget(counter, 2, "GET /api/analytics/top",
+                get("/api/analytics/top").param("year", year).param("month", month));
+        assertBudget(counter, 1, "GET /api/analytics/ratio",
+                get("/api/analytics/ratio").param("year", year).param("month", month));
+        assertBudget(counter, 1, "GET /api/analytics/distribution",
+                get("/api/analytics/distribution").param("year", year).param("month", month));
+        assertBudget(counter, 3, "GET /api/analytics/deltas",
+                get("/api/analytics/deltas").param("year", year).param("month", month));
+        assertBudget(counter, 2, "GET /api/analytics/monthly", get("/api/analytics/monthly").param("year", year));
+    }
+
+    @Test
+    @DisplayName("Ledger and payroll run endpoints")
+    void ledgerAndPayrollRunEndpoints(StatementCounter counter) throws Exception {
+        PayrollRun run = new PayrollRun();
+        run.setMonth(MONTH);
+        run.setYear(YEAR);
+        run.setStatus(PayrollRun.RunStatus.COMPLETED);
+        run.setChunkSize(100);
+        payrollRunRepository.saveAndFlush(run);
+        entityManager.clear();
+
+        assertBudget(counter, 5, "POST /api/ledger/reconcile/month/{m}/year/{y}",
+                post("/api/ledger/reconcile/month/{m}/year/{y}", MONTH, YEAR));
+        assertBudget(counter, 1, "GET /api/payroll-runs", get("/api/payroll-runs"));
+        assertBudget(counter, 1, "GET /api/payroll-runs/month/{m}/year/{y}",
+                get("/api/payroll-runs/month/{m}/year/{y}", MONTH, YEAR));
+        assertBudget(counter, 2, "GET /api/payroll-runs/month/{m}/year/{y}/failures",
+                get("/api/payroll-runs/month/{m}/year/{y}/failures", MONTH, YEAR));
+    }
+
+    @Test
+    @DisplayName("Auth endpoint")
+    void authEndpoint(StatementCounter counter) throws Exception {
+        LoginRequest login = new LoginRequest();
+        login.setUsername("admin");
+        login.setPassword("admin123");
+        assertBudget(counter, 0, "POST /api/auth/login", json(post("/api/auth/login"), login));
+    }
+
+    private void assertBudget(StatementCounter counter, int budget, String label, RequestBuilder request) throws Exception {
+        // A budget only means something for a request that succeeded
+        counter.assertAtMost(budget, label, () -> {
+            mockMvc.perform(request)
+                    .andExpect(status().is2xxSuccessful())
+                    .andExpect(jsonPath("$.success").value(true));
+            // The test transaction never commits, so flush to count deferred writes
+            entityManager.flush();
+        });
+        entityManager.clear();
+    }
+
+    private RequestBuilder json(MockHttpServletRequestBuilder builder, Object body) throws Exception {
+        return builder.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+
+    private LeaveRequest leave(Long employeeId, int day, Leave.LeaveType type) {
+        LeaveRequest leave = new LeaveRequest();
+        leave.setEmployeeId(employeeId);
+        leave.setLeaveDate(LocalDate.of(YEAR, MONTH, day));
+        leave.setLeaveType(type);
+        return leave;
+    }
+}
@@ -0,0 +1,73 @@
+package com.empmanage.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts JDBC statements executed on the test thread through a datasource-proxy listener
+ * installed on the application {@link DataSource}. Statements issued by background
+ * threads (schedulers, async jobs) are ignored so counts stay deterministic.
+ */
+public class StatementCountExtension implements ParameterResolver {
+
+    private static final ThreadLocal<List<String>> RECORDING = new ThreadLocal<>();
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == StatementCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return new StatementCounter();
+    }
+
+    static void startRecording() {
+        RECORDING.set(new ArrayList<>());
+    }
+
+    static List<String> stopRecording() {
+        List<String> statements = RECORDING.get();
+        RECORDING.remove();
+        return statements != null ? statements : List.of();
+    }
+
+    public static class CountingDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name("statement-counting")
+                        .listener(new RecordingListener())
+                        .build();
+            }
+            return bean;
+        }
+    }
+
+    static class RecordingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            List<String> statements = RECORDING.get();
+            if (statements != null) {
+                statements.add(queryInfoList.isEmpty() ? "?" : queryInfoList.get(0).getQuery());
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.empmanage.support;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures how many SQL statements an action executes and asserts it stays within a budget.
+ * The failure message lists the executed statements so a new N+1 is easy to spot.
+ */
+public class StatementCounter {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public List<String> record(Action action) throws Exception {
+        StatementCountExtension.startRecording();
+        try {
+            action.run();
+        } catch (Exception e) {
+            StatementCountExtension.stopRecording();
+            throw e;
+        }
+        return StatementCountExtension.stopRecording();
+    }
+
+    public void assertAtMost(int budget, String label, Action action) throws Exception {
+        List<String> statements = record(action);
+        assertTrue(statements.size() <= budget, () -> label + " executed " + statements.size()
+                + " statements, budget is " + budget + ":\n  " + String.join("\n  ", statements));
+    }
+}
@@ -0,0 +1,20 @@
+package com.empmanage.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables SQL statement counting for a Spring Boot test. Test methods can then declare a
+ * {@link StatementCounter} parameter and assert statement budgets around MockMvc calls.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(StatementCountExtension.class)
+@Import(StatementCountExtension.CountingDataSourcePostProcessor.class)
+public @interface StatementCounting {
+}
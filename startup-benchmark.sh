@@ -0,0 +1,67 @@
+#!/bin/bash
+
+# Measures cold-start time as time-to-first-successful GET /api/dashboard.
+#
+# Usage: ./startup-benchmark.sh [jar|cds] [runs]
+#   jar  - plain boot jar: java -jar build/libs/*.jar (build with ./gradlew bootJar)
+#   cds  - AOT code + AppCDS archive (build with ./fast-start.sh build)
+#
+# Extra JVM/Spring arguments can be passed in JAVA_OPTS / APP_ARGS.
+
+MODE="${1:-jar}"
+RUNS="${2:-5}"
+PORT="${PORT:-8080}"
+URL="http://localhost:$PORT/api/dashboard"
+TIMEOUT_SECONDS=120
+
+start_app() {
+    case "$MODE" in
+        jar)
+            java $JAVA_OPTS -jar $(ls build/libs/*.jar | grep -v plain | head -n 1) --server.port="$PORT" $APP_ARGS &
+            ;;
+        cds)
+            ./fast-start.sh run --server.port="$PORT" $APP_ARGS &
+            ;;
+        *)
+            echo "Unknown mode: $MODE"
+            exit 1
+            ;;
+    esac
+    APP_PID=$!
+}
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    start_app
+    deadline=$(( start + TIMEOUT_SECONDS * 1000 ))
+    elapsed=""
+    while [ "$(now_ms)" -lt "$deadline" ]; do
+        if curl -sf -o /dev/null "$URL"; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        sleep 0.02
+    done
+    kill "$APP_PID" 2>/dev/null
+    wait "$APP_PID" 2>/dev/null
+
+    if [ -z "$elapsed" ]; then
+        echo "❌ Run $run: no successful response within ${TIMEOUT_SECONDS}s"
+        exit 1
+    fi
+    echo "Run $run: ${elapsed} ms"
+    results+=("$elapsed")
+done
+
+sorted=($(printf '%s\n' "${results[@]}" | sort -n))
+echo "=================================="
+echo "Mode:   $MODE"
+echo "Min:    ${sorted[0]} ms"
+echo "Median: ${sorted[$(( ${#sorted[@]} / 2 ))]} ms"
+echo "Max:    ${sorted[$(( ${#sorted[@]} - 1 ))]} ms"
+echo "=================================="
@@ -0,0 +1,56 @@
+#!/bin/bash
+
+# Compares platform-thread and virtual-thread request handling under the same
+# open-loop load: starts the boot jar in each mode, runs the load-test driver and
+# prints both latency tables (throughput, p50/p99/max per operation).
+#
+# Usage: ./virtual-thread-benchmark.sh [rate] [duration-seconds]
+#   Build first with ./gradlew bootJar and seed the database (see load-test/README.md).
+#
+# LOAD_ARGS adds driver arguments (e.g. --month=2026-09), APP_ARGS adds Spring arguments.
+# SMS-heavy runs need Twilio credentials; without them generate calls still exercise the DB.
+
+RATE="${1:-300}"
+DURATION="${2:-60}"
+PORT="${PORT:-8080}"
+OUT_DIR="$(pwd)/build/vt-benchmark"
+JAR=$(ls build/libs/*.jar 2>/dev/null | grep -v plain | head -n 1)
+
+if [ -z "$JAR" ]; then
+    echo "❌ No boot jar found, run ./gradlew bootJar first"
+    exit 1
+fi
+
+mkdir -p "$OUT_DIR"
+
+for mode in platform virtual; do
+    profile_args=""
+    if [ "$mode" = "virtual" ]; then
+        profile_args="--spring.profiles.active=virtual"
+    fi
+
+    echo "▶ Starting server with $mode threads"
+    java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" $profile_args $APP_ARGS > "$OUT_DIR/$mode-server.log" 2>&1 &
+    APP_PID=$!
+
+    for _ in $(seq 1 120); do
+        curl -sf -o /dev/null "http://localhost:$PORT/api/dashboard" && break
+        sleep 1
+    done
+
+    ./gradlew -q :load-test:loadRun --args="--base-url=http://localhost:$PORT --rate=$RATE --duration=$DURATION --out=$OUT_DIR/$mode $LOAD_ARGS" \
+        | tee "$OUT_DIR/$mode.txt"
+
+    kill "$APP_PID" 2>/dev/null
+    wait "$APP_PID" 2>/dev/null
+done
+
+echo "=================================="
+for mode in platform virtual; do
+    echo "Mode: $mode"
+    sed -n '/^operation/,/^elapsed/p' "$OUT_DIR/$mode.txt"
+    echo
+done
+echo "Pinned virtual threads (see jvm.threads.virtual.pinned):"
+grep -c "Virtual thread pinned" "$OUT_DIR/virtual-server.log"
+echo "=================================="